@@ -0,0 +1,37 @@
+package com.zerobase.zerostore.config;
+
+import com.zerobase.zerostore.repository.ReservationSlotRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카운터 행이 없는 앞으로의 예약 시간대를 기존 예약 수로 채웁니다.
+ * 예약 시에는 카운터 행을 0 으로만 만들고 예약 테이블을 세지 않으므로, 카운터 도입 전에 잡힌 예약은 여기서 반영합니다.
+ * 웹 요청을 받기 전에 실행되며, 이미 카운터 행이 있는 시간대는 건드리지 않습니다.
+ * 거절된 예약을 상태 코드로 제외하므로, 이전 행의 상태 코드를 채우는 마이그레이션이 끝난 뒤에 실행됩니다.
+ * (먼저 실행되면 status_code 가 0 인 거절 예약까지 세어지고, 이미 만든 행은 다시 고쳐지지 않음)
+ */
+@Slf4j
+@Component
+@DependsOn("reservationStatusColumnMigration")
+@RequiredArgsConstructor
+public class ReservationSlotBackfill {
+
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void backfill() {
+        Integer inserted = transactionTemplate.execute(
+                status -> reservationSlotRepository.backfillFrom(LocalDateTime.now()));
+        if (inserted != null && inserted > 0) {
+            log.info("예약 시간대 카운터 초기화 완료 - {}개 시간대", inserted);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.zerobase.zerostore.config;
+
+import com.zerobase.zerostore.type.ReservationStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 상태 컬럼을 표시 이름 문자열(status)에서 코드(status_code)로 옮기는 마이그레이션입니다.
+ * - 스키마 갱신으로 status_code 컬럼이 추가된 뒤, 웹 요청을 받기 전에 실행됩니다.
+ * - 아직 코드가 없는 행(status_code 가 0 또는 null)만 옮기므로 여러 번 실행해도 결과가 같습니다.
+ * - 알 수 없는 표시 이름이 하나라도 있으면 값을 옮기지 않고 기동을 실패시킵니다. (임의의 상태로 바꾸지 않음)
+ * - 이전 버전으로 되돌릴 수 있도록 기동 시에는 status 컬럼을 삭제하지 않고, 새 행을 저장할 수 있게 null 만 허용합니다.
+ *   모든 행이 옮겨진 것을 확인한 뒤의 배포에서 reservation.status-migration.drop-legacy-column=true 로 삭제합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ReservationStatusColumnMigration {
+
+    private static final String TABLE = "reservation";
+    private static final String LEGACY_COLUMN = "status";
+    private static final String NOT_MIGRATED = "(status_code IS NULL OR status_code = 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reservation.status-migration.drop-legacy-column:false}")
+    private boolean dropLegacyColumn;
+
+    @PostConstruct
+    void migrate() {
+        Boolean legacyNullable = legacyColumnNullable();
+        if (legacyNullable == null) {
+            return;
+        }
+
+        String labels = Arrays.stream(ReservationStatus.values())
+                .map(status -> "'" + status.getStatus() + "'")
+                .collect(Collectors.joining(", "));
+        List<String> unknown = jdbcTemplate.queryForList(
+                "SELECT DISTINCT status FROM reservation WHERE " + NOT_MIGRATED
+                        + " AND (status IS NULL OR status NOT IN (" + labels + "))",
+                String.class);
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("Unmapped reservation status labels, fix them before migrating: " + unknown);
+        }
+
+        StringBuilder caseExpression = new StringBuilder("CASE status");
+        for (ReservationStatus status : ReservationStatus.values()) {
+            caseExpression.append(" WHEN '").append(status.getStatus()).append("' THEN ").append(status.getCode());
+        }
+        caseExpression.append(" END");
+
+        int migrated = jdbcTemplate.update("UPDATE reservation SET status_code = " + caseExpression
+                + " WHERE " + NOT_MIGRATED);
+        if (migrated > 0) {
+            log.info("예약 상태 컬럼 마이그레이션 완료 - {}건", migrated);
+        }
+
+        if (dropLegacyColumn) {
+            jdbcTemplate.execute("ALTER TABLE reservation DROP COLUMN status");
+            log.info("예약 상태 이전 컬럼 삭제 완료");
+        } else if (!legacyNullable) {
+            // 엔티티는 더 이상 status 를 쓰지 않으므로, 새 예약을 저장할 수 있도록 null 허용
+            jdbcTemplate.execute("ALTER TABLE reservation MODIFY COLUMN status VARCHAR(255) NULL");
+        }
+    }
+
+    // 이전 컬럼의 null 허용 여부 (컬럼이 없으면 null)
+    private Boolean legacyColumnNullable() {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upperCase ? TABLE.toUpperCase() : TABLE,
+                    upperCase ? LEGACY_COLUMN.toUpperCase() : LEGACY_COLUMN)) {
+                if (!columns.next()) {
+                    return null;
+                }
+                return columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls;
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.zerobase.zerostore.config;
+
+import com.zerobase.zerostore.repository.StoreRatingRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 집계 행이 없는 상점을 기존 리뷰로 한 번에 채웁니다.
+ * 웹 요청을 받기 전에 실행되며, 이후 상점은 등록 시 빈 집계 행과 함께 만들어지므로
+ * 리뷰 작성/수정/삭제 경로에서는 집계 행을 만들거나 리뷰를 세지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingBackfill {
+
+    private final StoreRatingRepository storeRatingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void backfill() {
+        Integer inserted = transactionTemplate.execute(status -> storeRatingRepository.backfillMissing());
+        if (inserted != null && inserted > 0) {
+            log.info("상점 평점 집계 초기화 완료 - {}개 상점", inserted);
+        }
+    }
+}
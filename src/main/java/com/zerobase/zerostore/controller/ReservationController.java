@@ -1,15 +1,22 @@
 package com.zerobase.zerostore.controller;
 
 import com.zerobase.zerostore.dto.CommonResponseUtil;
+import com.zerobase.zerostore.dto.CursorPageResponse;
+import com.zerobase.zerostore.dto.ReservationBulkStatusRequest;
 import com.zerobase.zerostore.dto.ReservationRequest;
 import com.zerobase.zerostore.dto.ReservationResponse;
+import com.zerobase.zerostore.dto.ReservationSearchRequest;
+import com.zerobase.zerostore.dto.ReservationStatusResult;
 import com.zerobase.zerostore.security.UserDetailsImpl;
+import com.zerobase.zerostore.service.IdempotencyService;
 import com.zerobase.zerostore.service.ReservationService;
 import com.zerobase.zerostore.type.ReservationStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -24,12 +31,15 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 사용자가 새로운 예약을 생성하는 메서드입니다.
      * 사용자는 예약 정보를 입력하여 새로운 예약을 생성할 수 있습니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재요청해도 예약이 한 번만 생성되고 처음 응답이 반환됩니다.
      *
      * @param user 인증된 사용자 정보
+     * @param idempotencyKey 재시도 시 중복 생성을 막기 위한 클라이언트 키 (선택)
      * @param request 생성할 예약에 대한 요청 정보
      * @return 예약 생성 성공 메시지와 생성된 예약 정보
      */
@@ -37,40 +47,47 @@ public class ReservationController {
     @PostMapping
     public ResponseEntity<CommonResponseUtil<?>> createReservation(
             @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody ReservationRequest request) {
-        ReservationResponse reservation = reservationService.createReservation(user.getUser(), request);
+        ReservationResponse reservation = idempotencyService.execute(
+                user.getUser().getId(), "reservation.create", idempotencyKey, request, ReservationResponse.class,
+                () -> reservationService.createReservation(user.getUser(), request));
         return ResponseEntity.ok(CommonResponseUtil.success("예약 생성 성공", reservation));
     }
 
     /**
      * 사용자가 본인의 예약 목록을 조회하는 메서드입니다.
-     * 사용자는 로그인 후 본인이 생성한 모든 예약을 조회할 수 있습니다.
+     * 사용자는 로그인 후 본인이 생성한 예약을 기간/상태별로 페이지를 나누어 조회할 수 있습니다.
      *
      * @param user 인증된 사용자 정보
-     * @return 사용자의 모든 예약 목록
+     * @param request 커서, 페이지 크기, 기간 및 상태 필터
+     * @return 사용자의 예약 목록 페이지
      */
-    @Operation(summary = "사용자 예약 목록 조회", description = "현재 사용자의 예약 목록을 조회합니다.")
+    @Operation(summary = "사용자 예약 목록 조회", description = "현재 사용자의 예약 목록을 커서 기반으로 조회합니다.")
     @GetMapping
     public ResponseEntity<CommonResponseUtil<?>> getUserReservations(
-            @AuthenticationPrincipal UserDetailsImpl user) {
-        List<ReservationResponse> reservations = reservationService.getReservationsByUser(user.getUser());
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @ParameterObject @ModelAttribute ReservationSearchRequest request) {
+        CursorPageResponse<ReservationResponse> reservations = reservationService.getReservationsByUser(user.getUser(), request);
         return ResponseEntity.ok(CommonResponseUtil.success("예약 목록 조회 성공", reservations));
     }
 
     /**
      * 파트너가 소유한 특정 상점의 예약 목록을 조회하는 메서드입니다.
-     * 상점 소유자는 해당 상점의 예약 목록을 조회할 수 있습니다.
+     * 상점 소유자는 해당 상점의 예약 목록을 기간/상태별로 페이지를 나누어 조회할 수 있습니다.
      *
      * @param storeId 조회할 상점의 ID
      * @param user 인증된 파트너 사용자 정보
-     * @return 상점의 예약 목록
+     * @param request 커서, 페이지 크기, 기간 및 상태 필터
+     * @return 상점의 예약 목록 페이지
      */
-    @Operation(summary = "상점 예약 목록 조회", description = "파트너가 소유한 특정 상점의 예약 목록을 조회합니다.")
+    @Operation(summary = "상점 예약 목록 조회", description = "파트너가 소유한 특정 상점의 예약 목록을 커서 기반으로 조회합니다.")
     @GetMapping("/store/{storeId}")
     public ResponseEntity<CommonResponseUtil<?>> getStoreReservations(
             @PathVariable Long storeId,
-            @AuthenticationPrincipal UserDetailsImpl user) {
-        List<ReservationResponse> reservations = reservationService.getReservationsByStore(storeId, user.getUser());
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @ParameterObject @ModelAttribute ReservationSearchRequest request) {
+        CursorPageResponse<ReservationResponse> reservations = reservationService.getReservationsByStore(storeId, user.getUser(), request);
         return ResponseEntity.ok(CommonResponseUtil.success("상점 예약 목록 조회 성공", reservations));
     }
 
@@ -89,10 +106,28 @@ public class ReservationController {
             @PathVariable Long reservationId,
             @RequestParam ReservationStatus status,
             @AuthenticationPrincipal UserDetailsImpl user) {
-        reservationService.updateReservationStatus(reservationId, status.getStatus(), user.getUser());
+        reservationService.updateReservationStatus(reservationId, status, user.getUser());
         return ResponseEntity.ok(CommonResponseUtil.success("예약 상태 변경 성공"));
     }
 
+    /**
+     * 여러 예약의 상태를 한 번에 변경하는 메서드입니다.
+     * 파트너는 자신이 소유한 상점의 예약을 일괄로 승인하거나 거절할 수 있으며, 예약별 처리 결과를 반환합니다.
+     *
+     * @param request 변경할 예약 ID 목록과 변경할 상태
+     * @param user 인증된 사용자 정보
+     * @return 예약별 상태 변경 결과
+     */
+    @Operation(summary = "예약 상태 일괄 변경", description = "여러 예약의 상태를 한 번에 변경하고 예약별 결과를 반환합니다.")
+    @PatchMapping("/status")
+    public ResponseEntity<CommonResponseUtil<?>> updateReservationStatuses(
+            @RequestBody @Valid ReservationBulkStatusRequest request,
+            @AuthenticationPrincipal UserDetailsImpl user) {
+        List<ReservationStatusResult> results = reservationService.updateReservationStatuses(
+                request.getReservationIds(), request.getStatus(), user.getUser());
+        return ResponseEntity.ok(CommonResponseUtil.success("예약 상태 일괄 변경 완료", results));
+    }
+
     /**
      * 예약을 '사용 처리' 상태로 변경하는 메서드입니다.
      * 사용자는 해당 예약이 실제로 사용되었음을 표시할 수 있습니다.
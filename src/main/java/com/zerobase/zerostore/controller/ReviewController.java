@@ -1,19 +1,26 @@
 package com.zerobase.zerostore.controller;
 
 import com.zerobase.zerostore.dto.CommonResponseUtil;
+import com.zerobase.zerostore.dto.CursorPageResponse;
+import com.zerobase.zerostore.dto.PageResponse;
 import com.zerobase.zerostore.dto.ReviewRequest;
 import com.zerobase.zerostore.dto.ReviewResponse;
+import com.zerobase.zerostore.dto.ReviewSearchRequest;
 import com.zerobase.zerostore.security.UserDetailsImpl;
+import com.zerobase.zerostore.service.IdempotencyService;
 import com.zerobase.zerostore.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 
 @Tag(name = "Review", description = "리뷰 관리 API")
 @RestController
@@ -22,12 +29,15 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 사용자가 새로운 리뷰를 작성하는 메서드입니다.
      * 사용자는 로그인 후, 상점에 대한 리뷰를 작성할 수 있습니다.
+     * Idempotency-Key 헤더를 보내면 같은 키로 재요청해도 리뷰가 한 번만 작성되고 처음 응답이 반환됩니다.
      *
      * @param user 인증된 사용자 정보
+     * @param idempotencyKey 재시도 시 중복 작성을 막기 위한 클라이언트 키 (선택)
      * @param request 예약 번호와 작성할 리뷰 내용 및 평점
      * @return 리뷰 작성 성공 메시지와 작성된 리뷰 정보
      */
@@ -36,8 +46,11 @@ public class ReviewController {
     @PostMapping
     public ResponseEntity<CommonResponseUtil<?>> createReview(
             @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody ReviewRequest request) {
-        ReviewResponse response = reviewService.createReview(user.getUser(), request);
+        ReviewResponse response = idempotencyService.execute(
+                user.getUser().getId(), "review.create", idempotencyKey, request, ReviewResponse.class,
+                () -> reviewService.createReview(user.getUser(), request));
         return ResponseEntity.ok(CommonResponseUtil.success("리뷰 작성 성공", response));
     }
 
@@ -81,32 +94,71 @@ public class ReviewController {
 
     /**
      * 특정 상점에 대한 리뷰를 조회하는 메서드입니다.
-     * 사용자는 상점 ID를 제공하여 해당 상점의 모든 리뷰를 조회할 수 있습니다.
+     * 사용자는 상점 ID를 제공하여 해당 상점의 리뷰를 최신순으로 페이지를 나누어 조회할 수 있습니다.
+     * 상점의 버전만 먼저 조회하여, If-None-Match 가 ETag 와 같으면 리뷰를 조회하지 않고 304 를 응답합니다.
      *
      * @param storeId 조회할 상점의 ID
-     * @return 특정 상점의 모든 리뷰 목록
+     * @param request 커서, 페이지 크기, 최소 평점 필터
+     * @param webRequest 조건부 요청 헤더 확인용 요청
+     * @return 특정 상점의 리뷰 목록 페이지 (변경이 없으면 본문 없이 304)
      */
-    @Operation(summary = "상점 리뷰 조회", description = "특정 상점의 리뷰를 조회합니다.")
+    @Operation(summary = "상점 리뷰 조회", description = "특정 상점의 리뷰를 최신순으로 커서 기반 조회합니다.")
     @GetMapping("/store/{storeId}")
-    public ResponseEntity<CommonResponseUtil<?>> getStoreReviews(@PathVariable Long storeId) {
-        List<ReviewResponse> responses = reviewService.getReviewsByStore(storeId);
+    public ResponseEntity<CommonResponseUtil<?>> getStoreReviews(
+            @PathVariable Long storeId,
+            @ParameterObject @ModelAttribute ReviewSearchRequest request,
+            WebRequest webRequest) {
+        // 같은 버전이라도 페이지 조건이 다르면 응답이 다르므로 조건을 ETag 에 포함
+        String versionTag = reviewService.getVersionTag(storeId);
+        if (webRequest.checkNotModified("reviews-" + storeId + "-" + versionTag + "-" + pageConditionHash(request))) {
+            return null;
+        }
+
+        CursorPageResponse<ReviewResponse> responses = reviewService.getReviewsByStore(storeId, request, versionTag);
         return ResponseEntity.ok(CommonResponseUtil.success("상점 리뷰 조회 성공", responses));
     }
 
+    /**
+     * 리뷰 내용을 검색어로 검색하는 메서드입니다.
+     * 검색어를 포함하는 리뷰를 관련도 순으로 페이지를 나누어 조회할 수 있으며, 특정 상점으로 범위를 좁힐 수 있습니다.
+     *
+     * @param q 검색어
+     * @param storeId 검색할 상점의 ID (선택)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 관련도 순 리뷰 목록 페이지
+     */
+    @Operation(summary = "리뷰 검색", description = "리뷰 내용을 검색어로 검색합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<CommonResponseUtil<?>> searchReviews(
+            @RequestParam String q,
+            @RequestParam(required = false) Long storeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageResponse<ReviewResponse> responses = reviewService.searchReviews(q, storeId, page, size);
+        return ResponseEntity.ok(CommonResponseUtil.success("리뷰 검색 성공", responses));
+    }
+
     /**
      * 로그인된 사용자가 본인이 작성한 리뷰 목록을 조회하는 메서드입니다.
-     * 사용자는 본인이 작성한 모든 리뷰를 조회할 수 있습니다.
+     * 사용자는 본인이 작성한 리뷰를 최신순으로 페이지를 나누어 조회할 수 있습니다.
      *
      * @param user 인증된 사용자 정보
-     * @return 사용자가 작성한 리뷰 목록
+     * @param request 커서, 페이지 크기, 최소 평점 필터
+     * @return 사용자가 작성한 리뷰 목록 페이지
      */
-    @Operation(summary = "사용자 리뷰 조회", description = "사용자의 리뷰를 조회합니다.")
+    @Operation(summary = "사용자 리뷰 조회", description = "사용자의 리뷰를 최신순으로 커서 기반 조회합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
     @GetMapping("/user")
     public ResponseEntity<CommonResponseUtil<?>> getUserReviews(
-            @AuthenticationPrincipal UserDetailsImpl user) {
-        List<ReviewResponse> responses = reviewService.getReviewsByUser(user.getUser());
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @ParameterObject @ModelAttribute ReviewSearchRequest request) {
+        CursorPageResponse<ReviewResponse> responses = reviewService.getReviewsByUser(user.getUser(), request);
         return ResponseEntity.ok(CommonResponseUtil.success("사용자 리뷰 조회 성공", responses));
     }
-}
 
+    private static String pageConditionHash(ReviewSearchRequest request) {
+        String condition = request.getCursor() + "|" + request.getMinRating() + "|" + request.getSize();
+        return DigestUtils.md5DigestAsHex(condition.getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+    }
+}
@@ -1,21 +1,41 @@
 package com.zerobase.zerostore.controller;
 
 import com.zerobase.zerostore.dto.CommonResponseUtil;
+import com.zerobase.zerostore.dto.CursorPageResponse;
+import com.zerobase.zerostore.dto.NearbyStoreResponse;
+import com.zerobase.zerostore.dto.PageResponse;
+import com.zerobase.zerostore.dto.SlotAvailabilityResponse;
+import com.zerobase.zerostore.dto.StoreImportResponse;
+import com.zerobase.zerostore.dto.StorePatchRequest;
+import com.zerobase.zerostore.dto.StoreRankingResponse;
 import com.zerobase.zerostore.dto.StoreRequest;
 import com.zerobase.zerostore.dto.StoreResponse;
 import com.zerobase.zerostore.dto.StoreUpdateRequest;
 import com.zerobase.zerostore.security.UserDetailsImpl;
+import com.zerobase.zerostore.service.SlotAvailabilityIndex;
+import com.zerobase.zerostore.service.StoreCatalogExporter;
+import com.zerobase.zerostore.service.StoreGeoIndex;
+import com.zerobase.zerostore.service.StoreImportService;
+import com.zerobase.zerostore.service.StoreRankingIndex;
 import com.zerobase.zerostore.service.StoreService;
+import com.zerobase.zerostore.type.StoreRankingType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Store", description = "상점 관리 API")
@@ -26,6 +46,11 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final StoreRankingIndex storeRankingIndex;
+    private final StoreCatalogExporter storeCatalogExporter;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreImportService storeImportService;
 
     /**
      * 파트너 사용자가 새로운 상점을 등록하는 메서드입니다.
@@ -49,6 +74,30 @@ public class StoreController {
         return ResponseEntity.ok(CommonResponseUtil.success("상점등록 성공"));
     }
 
+    /**
+     * 파트너 사용자가 여러 상점을 파일 하나로 일괄 등록하는 메서드입니다.
+     * CSV(첫 행은 헤더) 또는 NDJSON(한 줄에 상점 하나) 본문을 한 행씩 읽어 등록하고, 행별 결과를 반환합니다.
+     *
+     * @param contentType 본문 형식 (text/csv 또는 application/x-ndjson)
+     * @param body 상점 목록 파일
+     * @param user 인증된 사용자 정보 (파트너 사용자)
+     * @return 행별 등록 결과
+     */
+    @Operation(summary = "상점 일괄 등록", description = "파트너 사용자가 CSV 또는 NDJSON 파일로 여러 상점을 등록합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<CommonResponseUtil<?>> importStores(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal UserDetailsImpl user
+    ) {
+        if (user == null) {
+            return ResponseEntity.ok(CommonResponseUtil.error(403, "상점등록을 위한 권한이 없습니다."));
+        }
+        StoreImportResponse result = storeImportService.importStores(user.getUser().getId(), contentType, body);
+        return ResponseEntity.ok(CommonResponseUtil.success("상점 일괄 등록 완료", result));
+    }
+
     /**
      * 파트너 사용자가 특정 상점의 정보를 수정하는 메서드입니다.
      * 사용자는 자신이 소유한 상점의 정보를 수정할 수 있습니다.
@@ -73,6 +122,30 @@ public class StoreController {
         return ResponseEntity.ok(CommonResponseUtil.success("상점 수정 성공"));
     }
 
+    /**
+     * 파트너 사용자가 특정 상점의 정보 중 일부만 수정하는 메서드입니다.
+     * 요청에 포함된 항목만 변경되고, 나머지 항목은 그대로 유지됩니다.
+     *
+     * @param storeId 수정할 상점의 ID
+     * @param user 인증된 사용자 정보 (파트너 사용자)
+     * @param request 수정할 항목만 담은 정보
+     * @return 상점 수정 성공 메시지를 포함한 응답
+     */
+    @Operation(summary = "상점 정보 부분 수정", description = "파트너 사용자가 특정 상점 정보 중 요청에 포함된 항목만 수정합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PatchMapping("/{storeId}")
+    public ResponseEntity<CommonResponseUtil<?>> patchStore(
+            @PathVariable Long storeId,
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestBody @Valid StorePatchRequest request
+    ) {
+        if (user == null) {
+            return ResponseEntity.ok(CommonResponseUtil.error(403, "상점정보 수정을 위한 권한이 없습니다."));
+        }
+        storeService.patchStore(storeId, user.getUser(), request);
+        return ResponseEntity.ok(CommonResponseUtil.success("상점 수정 성공"));
+    }
+
     /**
      * 파트너 사용자가 특정 상점을 삭제하는 메서드입니다.
      * 사용자는 자신이 소유한 상점을 삭제할 수 있습니다.
@@ -96,32 +169,134 @@ public class StoreController {
     }
 
     /**
-     * 등록된 모든 상점 정보를 조회하는 메서드입니다.
-     * 모든 상점의 정보를 조회하고, 반환합니다.
+     * 등록된 상점 정보를 ID 순으로 페이지 단위 조회하는 메서드입니다.
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회할 수 있습니다.
      *
-     * @return 모든 상점의 리스트
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상점 페이지
      */
-    @Operation(summary = "전체 상점 조회", description = "등록된 모든 상점 정보를 조회합니다.")
+    @Operation(summary = "전체 상점 조회", description = "등록된 상점 정보를 ID 순으로 커서 기반 조회합니다.")
     @GetMapping
-    public ResponseEntity<CommonResponseUtil<?>> getAllStores() {
-        List<StoreResponse> stores = storeService.getAllStores();
+    public ResponseEntity<CommonResponseUtil<?>> getAllStores(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + StoreService.DEFAULT_PAGE_SIZE) int size) {
+        CursorPageResponse<StoreResponse> stores = storeService.getStores(cursor, size);
         return ResponseEntity.ok(CommonResponseUtil.success("전체 상점 조회 성공", stores));
     }
 
+    /**
+     * 등록된 모든 상점 정보를 NDJSON(한 줄에 상점 하나)으로 내보내는 메서드입니다.
+     * DB 커서에서 읽는 대로 응답에 쓰므로 전체 목록을 메모리에 올리지 않습니다.
+     * PARTNER 사용자만 요청할 수 있으며, 동시에 실행 중인 내보내기가 많으면 503 으로 거절합니다.
+     *
+     * @param user 인증된 사용자 정보 (파트너 사용자)
+     * @return 상점 정보 NDJSON 스트림
+     */
+    @Operation(summary = "상점 목록 내보내기", description = "파트너 사용자가 등록된 모든 상점 정보를 NDJSON 으로 내보냅니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportStores(@AuthenticationPrincipal UserDetailsImpl user) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(storeCatalogExporter.open(user.getUser()));
+    }
+
+    /**
+     * 상점명 또는 위치를 검색어로 상점을 검색하는 메서드입니다.
+     * 검색어를 포함하는 상점을 관련도 순으로 페이지를 나누어 조회할 수 있습니다.
+     *
+     * @param q 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 관련도 순 상점 목록 페이지
+     */
+    @Operation(summary = "상점 검색", description = "상점명 또는 위치를 검색어로 검색합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<CommonResponseUtil<?>> searchStores(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageResponse<StoreResponse> stores = storeService.searchStores(q, page, size);
+        return ResponseEntity.ok(CommonResponseUtil.success("상점 검색 성공", stores));
+    }
+
+    /**
+     * 기준 좌표 주변의 상점을 가까운 순으로 조회하는 메서드입니다.
+     * 메모리의 위치 인덱스에서 조회하므로 DB 를 조회하지 않습니다.
+     *
+     * @param lat 기준 위도
+     * @param lng 기준 경도
+     * @param radius 검색 반경 (미터, 최대 20km)
+     * @param limit 조회할 상점 수 (최대 100)
+     * @return 거리순 상점 목록
+     */
+    @Operation(summary = "주변 상점 조회", description = "기준 좌표 반경 안의 상점을 가까운 순으로 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<CommonResponseUtil<?>> getNearbyStores(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "1000") int radius,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<NearbyStoreResponse> stores = storeGeoIndex.findNearby(lat, lng, radius, limit);
+        return ResponseEntity.ok(CommonResponseUtil.success("주변 상점 조회 성공", stores));
+    }
+
+    /**
+     * 평점 또는 예약 수 기준 상위 상점 목록을 조회하는 메서드입니다.
+     * 메모리에 정렬된 순위에서 조회하므로 DB 를 조회하지 않습니다.
+     *
+     * @param by 순위 기준 (rating, reservations)
+     * @param limit 조회할 상점 수 (최대 100)
+     * @return 순위순 상점 목록
+     */
+    @Operation(summary = "상점 순위 조회", description = "평점 또는 예약 수 기준 상위 상점 목록을 조회합니다.")
+    @GetMapping("/ranking")
+    public ResponseEntity<CommonResponseUtil<?>> getRanking(
+            @RequestParam(defaultValue = "rating") String by,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<StoreRankingResponse> ranking = storeRankingIndex.getRanking(StoreRankingType.from(by), limit);
+        return ResponseEntity.ok(CommonResponseUtil.success("상점 순위 조회 성공", ranking));
+    }
+
     /**
      * 상점 ID를 기준으로 특정 상점 정보를 조회하는 메서드입니다.
      * 사용자는 상점 ID를 제공하여 해당 상점의 정보를 조회할 수 있습니다.
+     * 상점의 버전만 먼저 조회하여, If-None-Match 가 ETag 와 같으면 상점 정보를 조회하지 않고 304 를 응답합니다.
      *
      * @param storeId 조회할 상점의 ID
-     * @return 특정 상점의 정보
+     * @param webRequest 조건부 요청 헤더 확인용 요청
+     * @return 특정 상점의 정보 (변경이 없으면 본문 없이 304)
      */
     @Operation(summary = "특정 상점 조회", description = "상점 ID를 기준으로 특정 상점 정보를 조회합니다.")
     @GetMapping("/{storeId}")
-    public ResponseEntity<CommonResponseUtil<?>> getStoreById(@PathVariable Long storeId) {
-        StoreResponse store = storeService.getStoreById(storeId);
+    public ResponseEntity<CommonResponseUtil<?>> getStoreById(@PathVariable Long storeId, WebRequest webRequest) {
+        String versionTag = storeService.getVersionTag(storeId);
+        if (webRequest.checkNotModified("store-" + storeId + "-" + versionTag)) {
+            return null;
+        }
+
+        StoreResponse store = storeService.getStoreById(storeId, versionTag);
         return ResponseEntity.ok(CommonResponseUtil.success("상점 조회 성공", store));
     }
 
+    /**
+     * 특정 상점의 일자별 예약 가능 시간대를 조회하는 메서드입니다.
+     * 30분 단위 시간대 중 정원이 남아 있는 시간대만 반환합니다.
+     *
+     * @param storeId 조회할 상점의 ID
+     * @param date 조회할 일자 (yyyy-MM-dd)
+     * @return 예약 가능한 시간대 목록
+     */
+    @Operation(summary = "예약 가능 시간 조회", description = "상점의 일자별 예약 가능한 30분 단위 시간대를 조회합니다.")
+    @GetMapping("/{storeId}/availability")
+    public ResponseEntity<CommonResponseUtil<?>> getAvailability(
+            @PathVariable Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        SlotAvailabilityResponse availability = slotAvailabilityIndex.getAvailability(storeId, date);
+        return ResponseEntity.ok(CommonResponseUtil.success("예약 가능 시간 조회 성공", availability));
+    }
+
     /**
      * 로그인된 파트너 사용자가 소유한 모든 상점을 조회하는 메서드입니다.
      * 사용자는 자신의 계정으로 로그인한 후, 소유한 상점 목록을 조회할 수 있습니다.
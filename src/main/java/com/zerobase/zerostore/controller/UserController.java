@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "User", description = "회원 관리 API")
 @RestController
 @RequiredArgsConstructor
@@ -36,10 +38,10 @@ public class UserController {
      */
     @Operation(summary = "회원가입", description = "사용자가 회원가입을 합니다. 사용자 정보를 입력하고 가입을 요청합니다.")
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(
+    public CompletableFuture<ResponseEntity<?>> registerUser(
             @RequestBody @Valid UserRequest userRequest) {
-        userService.registerUser(userRequest);
-        return ResponseEntity.ok(CommonResponseUtil.success("회원가입 성공"));
+        return userService.registerUser(userRequest)
+                .thenApply(done -> ResponseEntity.ok(CommonResponseUtil.success("회원가입 성공")));
     }
 
     /**
@@ -73,7 +75,8 @@ public class UserController {
      */
     @Operation(summary = "로그인", description = "사용자가 로그인 요청을 합니다. 로그인 정보가 유효하면 JWT 토큰을 반환합니다.")
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
-        return ResponseEntity.ok(CommonResponseUtil.success("로그인 성공", userService.login(loginRequest)));
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
+        return userService.login(loginRequest)
+                .thenApply(token -> ResponseEntity.ok(CommonResponseUtil.success("로그인 성공", token)));
     }
 }
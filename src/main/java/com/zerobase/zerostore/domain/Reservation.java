@@ -2,6 +2,8 @@ package com.zerobase.zerostore.domain;
 
 import com.zerobase.zerostore.exception.CustomException;
 import com.zerobase.zerostore.type.ReservationStatus;
+import com.zerobase.zerostore.type.ReservationStatusConverter;
+import com.zerobase.zerostore.type.TsidId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +11,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
 
 import static com.zerobase.zerostore.type.ErrorCode.*;
 
@@ -18,10 +19,16 @@ import static com.zerobase.zerostore.type.ErrorCode.*;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_reservation_store_time", columnList = "store_id, reservation_time"),
+        @Index(name = "idx_reservation_user_time", columnList = "user_id, reservation_time"),
+        @Index(name = "idx_reservation_store_status_time", columnList = "store_id, status_code, reservation_time"),
+        @Index(name = "idx_reservation_status_time_id", columnList = "status_code, reservation_time, id")
+})
 public class Reservation extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,20 +39,31 @@ public class Reservation extends BaseEntity{
     @JoinColumn(name = "store_id", nullable = false)
     private Store store;
 
-    @Column(nullable = false)
+    @Column(name = "reservation_time", nullable = false)
     private LocalDateTime reservationTime;
 
-    @Column(nullable = false)
-    private String status;
+    @Convert(converter = ReservationStatusConverter.class)
+    @Column(name = "status_code", nullable = false)
+    private ReservationStatus status;
 
     @Column(nullable = false)
     private boolean used;
 
-    // 예약 상태 업데이트
-    public void setStatus(String status) {
-        if (Objects.equals(this.status, ReservationStatus.APPROVED.getStatus()) && Objects.equals(status, ReservationStatus.PENDING.getStatus())) {
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // 예약 상태 업데이트 (거절된 예약은 시간대 정원을 이미 반환했고, 만료된 예약은 만료 처리를 되돌리지 않도록 다른 상태로 바꿀 수 없음)
+    public void setStatus(ReservationStatus status) {
+        if (this.status == ReservationStatus.APPROVED && status == ReservationStatus.PENDING) {
             throw new CustomException(RESERVATION_STATE_CONFLICT);
         }
+        if (this.status == ReservationStatus.REJECTED && status != ReservationStatus.REJECTED) {
+            throw new CustomException(RESERVATION_ALREADY_REJECTED);
+        }
+        if (this.status == ReservationStatus.EXPIRED && status != ReservationStatus.EXPIRED) {
+            throw new CustomException(RESERVATION_ALREADY_EXPIRED);
+        }
         this.status = status;
     }
 
@@ -54,11 +72,11 @@ public class Reservation extends BaseEntity{
         if (this.used) {
             throw new CustomException(RESERVATION_ALREADY_USED);
         }
-        if (!Objects.equals(this.status, ReservationStatus.APPROVED.getStatus())) {
+        if (this.status != ReservationStatus.APPROVED) {
             throw new CustomException(RESERVATION_NOT_APPROVED);
         }
         this.used = used;
-        this.status = ReservationStatus.COMPLETED.getStatus();
+        this.status = ReservationStatus.COMPLETED;
     }
 }
 
@@ -0,0 +1,35 @@
+package com.zerobase.zerostore.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상점별 예약 시간대(30분 단위)의 예약 수를 관리하는 카운터 엔티티입니다.
+ * (store_id, slot_time) 당 한 행만 존재하며, 조건부 UPDATE 로 정원을 넘지 않도록 증가시킵니다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reservation_slot_store_time", columnNames = {"store_id", "slot_time"}))
+public class ReservationSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "slot_time", nullable = false)
+    private LocalDateTime slotTime;
+
+    @Column(nullable = false)
+    private int reservedCount;
+}
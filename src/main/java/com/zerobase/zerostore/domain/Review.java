@@ -1,5 +1,6 @@
 package com.zerobase.zerostore.domain;
 
+import com.zerobase.zerostore.type.TsidId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -12,10 +13,14 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_review_store_created", columnList = "store_id, created_at"),
+        @Index(name = "idx_review_user_created", columnList = "user_id, created_at")
+})
 public class Review extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,6 +42,10 @@ public class Review extends BaseEntity {
     @Column(nullable = false)
     private Integer rating;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 리뷰 수정 메서드
     public void updateReview(String content, Integer rating) {
         this.content = content;
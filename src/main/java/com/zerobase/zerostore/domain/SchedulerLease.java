@@ -0,0 +1,31 @@
+package com.zerobase.zerostore.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 노드 중 한 노드만 스케줄 작업을 실행하도록 보장하는 임대(lease) 행입니다.
+ * 작업 이름당 한 행이 존재하며, 임대 만료 전까지는 소유 노드만 작업을 실행할 수 있습니다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    private String name;
+
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -1,13 +1,18 @@
 package com.zerobase.zerostore.domain;
 
+import com.zerobase.zerostore.type.TsidId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.util.Objects;
 
 @Entity
+@DynamicUpdate
 @Builder
 @Getter
 @NoArgsConstructor
@@ -15,7 +20,7 @@ import lombok.NoArgsConstructor;
 public class Store extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @NotBlank(message = "매장 명은 필수입니다.")
@@ -27,8 +32,39 @@ public class Store extends BaseEntity{
     @NotBlank(message = "상점 설명은 필수입니다.")
     private String description;
 
+    // 시간대별 예약 정원 (null 이면 기본 정원 적용)
+    private Integer slotCapacity;
+
+    // 위경도 좌표 (null 이면 주변 상점 조회에서 제외)
+    private Double latitude;
+
+    private Double longitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User owner;
+
+    /**
+     * 상점 정보를 수정합니다.
+     * 관리 상태의 엔티티를 직접 변경하므로, 커밋 시 값이 바뀐 컬럼만 UPDATE 됩니다.
+     *
+     * @return 변경된 항목이 있는지 여부
+     */
+    public boolean update(String name, String location, String description, Integer slotCapacity,
+                          Double latitude, Double longitude) {
+        boolean changed = !Objects.equals(this.name, name)
+                || !Objects.equals(this.location, location)
+                || !Objects.equals(this.description, description)
+                || !Objects.equals(this.slotCapacity, slotCapacity)
+                || !Objects.equals(this.latitude, latitude)
+                || !Objects.equals(this.longitude, longitude);
+        this.name = name;
+        this.location = location;
+        this.description = description;
+        this.slotCapacity = slotCapacity;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        return changed;
+    }
 }
 
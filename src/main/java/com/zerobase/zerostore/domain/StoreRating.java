@@ -0,0 +1,48 @@
+package com.zerobase.zerostore.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상점별 리뷰 평점 집계입니다.
+ * 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 조건 없는 증감 UPDATE 로 갱신되므로, 리뷰를 읽지 않고도 평균과 분포를 알 수 있습니다.
+ * revision 은 리뷰가 작성/수정/삭제될 때마다 증가하므로 리뷰 목록의 버전으로도 사용됩니다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreRating {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "star1", nullable = false)
+    private long star1;
+
+    @Column(name = "star2", nullable = false)
+    private long star2;
+
+    @Column(name = "star3", nullable = false)
+    private long star3;
+
+    @Column(name = "star4", nullable = false)
+    private long star4;
+
+    @Column(name = "star5", nullable = false)
+    private long star5;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+}
@@ -1,6 +1,7 @@
 package com.zerobase.zerostore.domain;
 
 import com.zerobase.zerostore.type.Role;
+import com.zerobase.zerostore.type.TsidId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -17,7 +18,7 @@ import lombok.NoArgsConstructor;
 public class User extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @NotBlank(message = "이름은 필수입니다.")
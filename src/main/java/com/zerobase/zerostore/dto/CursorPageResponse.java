@@ -0,0 +1,34 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    /**
+     * 요청한 크기보다 하나 더 조회한 결과로 페이지 응답을 생성합니다.
+     *
+     * @param rows size + 1 개까지 조회된 결과
+     * @param size 요청한 페이지 크기
+     * @param cursorOf 마지막 항목으로 다음 커서를 만드는 함수
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+}
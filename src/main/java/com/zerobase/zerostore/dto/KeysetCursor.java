@@ -0,0 +1,50 @@
+package com.zerobase.zerostore.dto;
+
+import com.zerobase.zerostore.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.zerobase.zerostore.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * (시간, ID) 기준 키셋 페이지네이션 커서입니다.
+ * 클라이언트에는 URL 에 안전한 Base64 문자열로 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime time;
+    private final Long id;
+
+    public static String encode(LocalDateTime time, Long id) {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 커서가 비어 있으면 첫 페이지를 의미하는 null 을 반환합니다.
+     *
+     * @throws CustomException 커서 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyStoreResponse {
+    private Long storeId;
+    private String storeName;
+    private String location;
+    private double latitude;
+    private double longitude;
+    private long distanceMeters; // 요청 좌표로부터의 직선 거리 (미터)
+}
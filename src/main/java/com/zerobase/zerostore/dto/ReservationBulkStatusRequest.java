@@ -0,0 +1,24 @@
+package com.zerobase.zerostore.dto;
+
+import com.zerobase.zerostore.type.ReservationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationBulkStatusRequest {
+
+    @NotEmpty(message = "예약 ID 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 변경할 수 있습니다.")
+    private List<Long> reservationIds;
+
+    @NotNull(message = "변경할 예약 상태는 필수입니다.")
+    private ReservationStatus status;
+}
@@ -1,6 +1,9 @@
 package com.zerobase.zerostore.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.zerobase.zerostore.type.ReservationStatus;
+import com.zerobase.zerostore.type.ReservationStatusLabelSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,5 +21,6 @@ public class ReservationResponse {
     private String userName;
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
     private LocalDateTime reservationTime;
-    private String status;
+    @JsonSerialize(using = ReservationStatusLabelSerializer.class)
+    private ReservationStatus status;
 }
@@ -0,0 +1,25 @@
+package com.zerobase.zerostore.dto;
+
+import com.zerobase.zerostore.type.ReservationStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationSearchRequest {
+    private String cursor; // 이전 응답의 nextCursor (첫 페이지는 생략)
+    private int size = 20;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime from; // 예약 시간 시작 (포함)
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime to; // 예약 시간 끝 (미포함)
+
+    private ReservationStatus status;
+}
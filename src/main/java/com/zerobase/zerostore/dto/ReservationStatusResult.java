@@ -0,0 +1,33 @@
+package com.zerobase.zerostore.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationStatusResult {
+    private Long reservationId;
+    private boolean success;
+    private String message; // 실패 사유
+
+    public static ReservationStatusResult success(Long reservationId) {
+        return ReservationStatusResult.builder()
+                .reservationId(reservationId)
+                .success(true)
+                .build();
+    }
+
+    public static ReservationStatusResult failure(Long reservationId, String message) {
+        return ReservationStatusResult.builder()
+                .reservationId(reservationId)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -1,28 +1,23 @@
 package com.zerobase.zerostore.dto;
 
-import com.zerobase.zerostore.domain.Review;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
 public class ReviewResponse {
+    private Long id;
     private String storeName;
     private String userName;
     private String content;
     private Integer rating;
-
-    public static ReviewResponse entityToDto(Review review){
-        return ReviewResponse.builder()
-                .storeName(review.getStore().getName())
-                .userName(review.getUser().getName())
-                .content(review.getContent())
-                .rating(review.getRating())
-                .build();
-    }
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
 }
-
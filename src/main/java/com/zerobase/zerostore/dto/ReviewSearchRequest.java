@@ -0,0 +1,16 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReviewSearchRequest {
+    public static final int DEFAULT_SIZE = 20;
+
+    private String cursor; // 이전 응답의 nextCursor (첫 페이지는 생략)
+    private int size = DEFAULT_SIZE;
+    private Integer minRating; // 최소 평점 (포함)
+}
@@ -0,0 +1,22 @@
+package com.zerobase.zerostore.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotAvailabilityResponse {
+    private Long storeId;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    private int slotCapacity;
+    private List<String> availableSlots; // 예약 가능한 시간대 (HH:mm)
+}
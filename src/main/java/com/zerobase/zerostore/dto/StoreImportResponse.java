@@ -0,0 +1,43 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreImportResponse {
+    private int totalRows;
+    private int createdCount;
+    private int failedCount;
+    private boolean truncated; // 최대 행 수를 넘어 이후 행을 처리하지 않았는지 여부
+    private List<RowResult> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int row; // 데이터 행 번호 (1부터 시작, CSV 헤더 제외)
+        private String name;
+        private Status status;
+        private Long storeId; // 등록된 경우에만 값이 있음
+        private String message; // 실패 사유
+
+        public static RowResult failed(int row, String name, Status status, String message) {
+            return new RowResult(row, name, status, null, message);
+        }
+    }
+
+    public enum Status {
+        CREATED,   // 등록됨
+        DUPLICATE, // 이미 등록된 상호명 또는 파일 안에서 중복된 상호명
+        INVALID,   // 형식 또는 값 오류
+        FAILED     // 저장 중 오류
+    }
+}
@@ -0,0 +1,38 @@
+package com.zerobase.zerostore.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상점 부분 수정 요청입니다. 값이 없는(null) 항목은 변경하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorePatchRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "매장 명은 비워둘 수 없습니다.")
+    private String name;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "상점 위치는 비워둘 수 없습니다.")
+    private String location;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "상점 설명은 비워둘 수 없습니다.")
+    private String description;
+
+    @Positive(message = "시간대별 예약 정원은 1 이상이어야 합니다.")
+    private Integer slotCapacity;
+
+    @DecimalMin(value = "-90.0", message = "위도는 -90 에서 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 에서 90 사이여야 합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "경도는 -180 에서 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 에서 180 사이여야 합니다.")
+    private Double longitude;
+}
@@ -0,0 +1,19 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreRankingResponse {
+    private int rank;
+    private Long storeId;
+    private String storeName;
+    private double averageRating;
+    private long reviewCount;
+    private long reservationCount;
+}
@@ -0,0 +1,29 @@
+package com.zerobase.zerostore.dto;
+
+import com.zerobase.zerostore.domain.StoreRating;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreRatingResponse {
+    private long reviewCount;
+    private double averageRating;
+    // 1점부터 5점까지 평점별 리뷰 수
+    private List<Long> ratingCounts;
+
+    public static StoreRatingResponse of(StoreRating rating) {
+        if (rating == null || rating.getReviewCount() == 0) {
+            return new StoreRatingResponse(0, 0.0, List.of(0L, 0L, 0L, 0L, 0L));
+        }
+        double average = Math.round(rating.getRatingSum() * 10.0 / rating.getReviewCount()) / 10.0;
+        return new StoreRatingResponse(rating.getReviewCount(), average,
+                List.of(rating.getStar1(), rating.getStar2(), rating.getStar3(), rating.getStar4(), rating.getStar5()));
+    }
+}
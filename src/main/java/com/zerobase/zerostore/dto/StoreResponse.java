@@ -1,6 +1,7 @@
 package com.zerobase.zerostore.dto;
 
 import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.StoreRating;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,13 +16,21 @@ public class StoreResponse {
     private String name;
     private String location;
     private String description;
+    private Integer slotCapacity;
+    private Double latitude;
+    private Double longitude;
+    private StoreRatingResponse rating;
 
-    public static StoreResponse entityToDto(Store store){
+    public static StoreResponse entityToDto(Store store, StoreRating rating){
         return StoreResponse.builder()
                 .id(store.getId())
                 .name(store.getName())
                 .location(store.getLocation())
                 .description(store.getDescription())
+                .slotCapacity(store.getSlotCapacity())
+                .latitude(store.getLatitude())
+                .longitude(store.getLongitude())
+                .rating(StoreRatingResponse.of(rating))
                 .build();
     }
 }
@@ -1,6 +1,9 @@
 package com.zerobase.zerostore.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,5 +21,16 @@ public class StoreUpdateRequest {
 
     @NotBlank(message = "상점 설명은 필수입니다.")
     private String description;
+
+    @Positive(message = "시간대별 예약 정원은 1 이상이어야 합니다.")
+    private Integer slotCapacity;
+
+    @DecimalMin(value = "-90.0", message = "위도는 -90 에서 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 에서 90 사이여야 합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "경도는 -180 에서 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 에서 180 사이여야 합니다.")
+    private Double longitude;
 }
 
@@ -0,0 +1,21 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상점 정보와 리뷰 집계의 변경 여부를 판단하기 위한 버전 정보입니다.
+ * 상점 수정 시각과 평점 집계 revision 으로 구성되며, 둘 중 하나라도 바뀌면 버전 태그가 달라집니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreVersion {
+    private LocalDateTime updatedAt;
+    private Long reviewRevision;
+
+    public String toTag() {
+        return (updatedAt == null ? "0" : updatedAt.toString()) + "-" + (reviewRevision == null ? 0 : reviewRevision);
+    }
+}
@@ -0,0 +1,15 @@
+package com.zerobase.zerostore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 응답 본문과, 그 본문을 조회할 때 함께 읽은 버전 태그입니다.
+ * 본문과 함께 캐시되어, 요청 직전에 확인한 버전과 비교해 캐시된 본문을 그대로 응답해도 되는지 판단합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VersionedResponse<T> {
+    private T body;
+    private String versionTag;
+}
@@ -0,0 +1,18 @@
+package com.zerobase.zerostore.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 생성/거절로 시간대의 예약 수가 변경되었을 때 발행되는 이벤트입니다.
+ * delta 는 예약 생성 시 +1, 정원 반환 시 -1 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationSlotChangedEvent {
+    private final Long storeId;
+    private final LocalDateTime reservationTime;
+    private final int delta;
+}
@@ -0,0 +1,23 @@
+package com.zerobase.zerostore.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰가 작성/수정/삭제되었을 때 발행되는 이벤트입니다.
+ * previousRating 은 수정/삭제 시의 이전 평점, rating 과 content 는 작성/수정 후의 값입니다 (해당 없으면 null).
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+    private final Long reviewId;
+    private final Long storeId;
+    private final ChangeType type;
+    private final Integer previousRating;
+    private final Integer rating;
+    private final String content;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,34 @@
+package com.zerobase.zerostore.event;
+
+import com.zerobase.zerostore.domain.Store;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상점이 등록/수정/삭제되었을 때 발행되는 이벤트입니다.
+ * 상점 정보를 메모리에 보관하는 컴포넌트들이 커밋 이후 자신의 상태를 갱신하는 데 사용합니다.
+ * 등록/수정 시에는 상점명, 위치, 좌표를 함께 담아 리스너가 상점을 다시 조회하지 않도록 합니다 (삭제 시 null).
+ */
+@Getter
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private final Long storeId;
+    private final ChangeType type;
+    private final String name;
+    private final String location;
+    private final Double latitude;
+    private final Double longitude;
+
+    public static StoreChangedEvent of(Store store, ChangeType type) {
+        return new StoreChangedEvent(store.getId(), type, store.getName(), store.getLocation(),
+                store.getLatitude(), store.getLongitude());
+    }
+
+    public static StoreChangedEvent deleted(Long storeId) {
+        return new StoreChangedEvent(storeId, ChangeType.DELETED, null, null, null, null);
+    }
+
+    public enum ChangeType {
+        REGISTERED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,14 @@
+package com.zerobase.zerostore.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 역할이 변경되었을 때 발행되는 이벤트입니다.
+ * 전화번호 기준으로 캐시된 인증 정보를 무효화하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserRoleChangedEvent {
+    private final String phoneNumber;
+}
@@ -2,9 +2,14 @@ package com.zerobase.zerostore.exception;
 
 import com.zerobase.zerostore.dto.CommonResponseUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import static com.zerobase.zerostore.type.ErrorCode.CONCURRENT_MODIFICATION;
 import static com.zerobase.zerostore.type.ErrorCode.INTERNAL_SERVER_ERROR;
 
 @Slf4j
@@ -19,6 +24,22 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<CommonResponseUtil<Object>> handleException(ServiceUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(CommonResponseUtil.error(e.getStatus(), e.getErrorMessage()));
+    }
+
+    // 재시도하지 않는 변경(리뷰 수정 등)이나 재시도를 소진한 충돌
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public CommonResponseUtil<Object> handleException(OptimisticLockingFailureException e) {
+        return CommonResponseUtil.builder()
+                .status(CONCURRENT_MODIFICATION.getStatus())
+                .message(CONCURRENT_MODIFICATION.getDescription())
+                .build();
+    }
+
     @ExceptionHandler(Exception.class)
     public CommonResponseUtil<Object> handleException(Exception e) {
         log.error("서버오류 발생",e);
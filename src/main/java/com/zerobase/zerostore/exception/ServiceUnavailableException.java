@@ -0,0 +1,18 @@
+package com.zerobase.zerostore.exception;
+
+import com.zerobase.zerostore.type.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 처리 용량을 초과해 요청을 받을 수 없을 때 발생하는 예외입니다.
+ * 503 응답과 함께 Retry-After 헤더로 재시도 시점을 안내합니다.
+ */
+@Getter
+public class ServiceUnavailableException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,14 +1,96 @@
 package com.zerobase.zerostore.repository;
 
 import com.zerobase.zerostore.domain.Reservation;
+import com.zerobase.zerostore.dto.ReservationResponse;
+import com.zerobase.zerostore.type.ReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    List<Reservation> findAllByUserId(Long userId); // 특정 사용자의 예약 목록
-    List<Reservation> findAllByStoreId(Long storeId); // 특정 상점의 예약 목록
+
+    // 여러 예약을 상점과 함께 한 번에 조회 (소유자 검증용)
+    @Query("select r from Reservation r join fetch r.store where r.id in :ids")
+    List<Reservation> findAllWithStoreByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 특정 상점의 예약 목록 (예약 시간, ID 기준 키셋 페이지네이션, 응답 DTO 로 직접 조회)
+    @Query("select new com.zerobase.zerostore.dto.ReservationResponse(" +
+            "r.id, s.name, u.name, r.reservationTime, r.status) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where s.id = :storeId " +
+            "and (:from is null or r.reservationTime >= :from) " +
+            "and (:to is null or r.reservationTime < :to) " +
+            "and (:status is null or r.status = :status) " +
+            "and (:cursorTime is null or r.reservationTime > :cursorTime " +
+            "     or (r.reservationTime = :cursorTime and r.id > :cursorId)) " +
+            "order by r.reservationTime asc, r.id asc")
+    List<ReservationResponse> findPageByStoreId(@Param("storeId") Long storeId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("status") ReservationStatus status,
+                                        @Param("cursorTime") LocalDateTime cursorTime,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    // 특정 사용자의 예약 목록 (예약 시간, ID 기준 키셋 페이지네이션, 응답 DTO 로 직접 조회)
+    @Query("select new com.zerobase.zerostore.dto.ReservationResponse(" +
+            "r.id, s.name, u.name, r.reservationTime, r.status) " +
+            "from Reservation r join r.store s join r.user u " +
+            "where u.id = :userId " +
+            "and (:from is null or r.reservationTime >= :from) " +
+            "and (:to is null or r.reservationTime < :to) " +
+            "and (:status is null or r.status = :status) " +
+            "and (:cursorTime is null or r.reservationTime > :cursorTime " +
+            "     or (r.reservationTime = :cursorTime and r.id > :cursorId)) " +
+            "order by r.reservationTime asc, r.id asc")
+    List<ReservationResponse> findPageByUserId(@Param("userId") Long userId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("status") ReservationStatus status,
+                                       @Param("cursorTime") LocalDateTime cursorTime,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    // 예약 시간이 지난 특정 상태의 예약 [ID, 예약 시간] ((예약 시간, ID) 기준 키셋, idx_reservation_status_time_id 사용)
+    @Query("select r.id, r.reservationTime from Reservation r " +
+            "where r.status = :status and r.reservationTime < :now and r.reservationTime >= :lastTime " +
+            "and (r.reservationTime > :lastTime or r.id > :lastId) " +
+            "order by r.reservationTime asc, r.id asc")
+    List<Object[]> findExpired(@Param("status") ReservationStatus status,
+                               @Param("now") LocalDateTime now,
+                               @Param("lastTime") LocalDateTime lastTime,
+                               @Param("lastId") Long lastId,
+                               Pageable pageable);
+
+    // 엔티티를 로딩하지 않고 예약 상태를 일괄 변경 (현재 상태가 from 인 예약만, 버전 증가)
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to, r.updatedAt = :now, r.version = r.version + 1 " +
+            "where r.id in :ids and r.status = :from")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("from") ReservationStatus from,
+                          @Param("to") ReservationStatus to,
+                          @Param("now") LocalDateTime now);
+
+    // 상점별 예약 수 ([상점 ID, 건수], 특정 상태 제외)
+    @Query("select r.store.id, count(r) from Reservation r where r.status <> :excludedStatus group by r.store.id")
+    List<Object[]> countByStoreExcludingStatus(@Param("excludedStatus") ReservationStatus excludedStatus);
+
+    // 특정 상점의 기간 내 시간대별 예약 수 ([예약 시간, 건수])
+    @Query("select r.reservationTime, count(r) from Reservation r " +
+            "where r.store.id = :storeId and r.reservationTime >= :start and r.reservationTime < :end " +
+            "and r.status <> :excludedStatus " +
+            "group by r.reservationTime")
+    List<Object[]> countByStoreIdAndTimeRange(@Param("storeId") Long storeId,
+                                              @Param("start") LocalDateTime start,
+                                              @Param("end") LocalDateTime end,
+                                              @Param("excludedStatus") ReservationStatus excludedStatus);
 }
 
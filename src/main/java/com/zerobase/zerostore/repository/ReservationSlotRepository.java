@@ -0,0 +1,44 @@
+package com.zerobase.zerostore.repository;
+
+import com.zerobase.zerostore.domain.ReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    // 카운터 행이 없으면 0 으로 생성 (이미 있으면 무시, 생성된 행 수 반환)
+    // 예약 테이블을 읽지 않으므로 뒤이은 예약 INSERT 와 잠금이 겹치지 않음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_slot (store_id, slot_time, reserved_count) " +
+            "VALUES (:storeId, :slotTime, 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("storeId") Long storeId, @Param("slotTime") LocalDateTime slotTime);
+
+    // 카운터 행이 없는 앞으로의 시간대를 기존 예약 수로 한 번에 생성 (status_code 3 = 거절)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_slot (store_id, slot_time, reserved_count) " +
+            "SELECT store_id, reservation_time, COUNT(*) FROM reservation " +
+            "WHERE reservation_time >= :from AND status_code <> 3 " +
+            "GROUP BY store_id, reservation_time",
+            nativeQuery = true)
+    int backfillFrom(@Param("from") LocalDateTime from);
+
+    // 정원 미만일 때만 예약 수 증가 (증가된 행 수 반환)
+    @Modifying
+    @Query("update ReservationSlot s set s.reservedCount = s.reservedCount + 1 " +
+            "where s.storeId = :storeId and s.slotTime = :slotTime and s.reservedCount < :capacity")
+    int incrementIfAvailable(@Param("storeId") Long storeId,
+                             @Param("slotTime") LocalDateTime slotTime,
+                             @Param("capacity") int capacity);
+
+    @Modifying
+    @Query("update ReservationSlot s set s.reservedCount = s.reservedCount - 1 " +
+            "where s.storeId = :storeId and s.slotTime = :slotTime and s.reservedCount > 0")
+    int decrement(@Param("storeId") Long storeId, @Param("slotTime") LocalDateTime slotTime);
+}
@@ -1,14 +1,66 @@
 package com.zerobase.zerostore.repository;
 
 import com.zerobase.zerostore.domain.Review;
+import com.zerobase.zerostore.dto.ReviewResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByStoreId(Long storeId);
-    List<Review> findByUserId(Long userId);
-}
+    // 특정 상점의 리뷰 목록 (작성 시간, ID 역순 키셋 페이지네이션, 응답 DTO 로 직접 조회)
+    // 상점 존재 여부는 확인하지 않음 (호출 전에 버전 조회로 확인)
+    @Query("select new com.zerobase.zerostore.dto.ReviewResponse(" +
+            "rv.id, s.name, u.name, rv.content, rv.rating, rv.createdAt) " +
+            "from Review rv join rv.store s join rv.user u " +
+            "where s.id = :storeId " +
+            "and (:minRating is null or rv.rating >= :minRating) " +
+            "and (:cursorTime is null or rv.createdAt < :cursorTime " +
+            "     or (rv.createdAt = :cursorTime and rv.id < :cursorId)) " +
+            "order by rv.createdAt desc, rv.id desc")
+    List<ReviewResponse> findPageByStoreId(@Param("storeId") Long storeId,
+                                           @Param("minRating") Integer minRating,
+                                           @Param("cursorTime") LocalDateTime cursorTime,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 특정 사용자의 리뷰 목록 (작성 시간, ID 역순 키셋 페이지네이션, 응답 DTO 로 직접 조회)
+    @Query("select new com.zerobase.zerostore.dto.ReviewResponse(" +
+            "rv.id, s.name, u.name, rv.content, rv.rating, rv.createdAt) " +
+            "from Review rv join rv.store s join rv.user u " +
+            "where u.id = :userId " +
+            "and (:minRating is null or rv.rating >= :minRating) " +
+            "and (:cursorTime is null or rv.createdAt < :cursorTime " +
+            "     or (rv.createdAt = :cursorTime and rv.id < :cursorId)) " +
+            "order by rv.createdAt desc, rv.id desc")
+    List<ReviewResponse> findPageByUserId(@Param("userId") Long userId,
+                                          @Param("minRating") Integer minRating,
+                                          @Param("cursorTime") LocalDateTime cursorTime,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
 
+    // ID 목록의 리뷰 (응답 DTO 로 직접 조회, 순서 보장 없음)
+    @Query("select new com.zerobase.zerostore.dto.ReviewResponse(" +
+            "rv.id, s.name, u.name, rv.content, rv.rating, rv.createdAt) " +
+            "from Review rv join rv.store s join rv.user u " +
+            "where rv.id in :ids")
+    List<ReviewResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구성용 전체 리뷰 [ID, 상점 ID, 내용] 스트리밍 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 행 단위로 전송)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select rv.id, rv.store.id, rv.content from Review rv")
+    Stream<Object[]> streamAllForSearch();
+}
@@ -0,0 +1,33 @@
+package com.zerobase.zerostore.repository;
+
+import com.zerobase.zerostore.domain.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 임대 행이 없으면 만료된 상태로 생성 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_lease (name, owner, lease_until) VALUES (:name, NULL, :leaseUntil)",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 임대가 만료되었거나 이미 소유한 경우에만 임대를 획득/연장 (갱신된 행 수 반환)
+    @Modifying
+    @Query("update SchedulerLease l set l.owner = :owner, l.leaseUntil = :leaseUntil " +
+            "where l.name = :name and (l.leaseUntil < :now or l.owner = :owner)")
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update SchedulerLease l set l.leaseUntil = :now where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,49 @@
+package com.zerobase.zerostore.repository;
+
+import com.zerobase.zerostore.domain.StoreRating;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreRatingRepository extends JpaRepository<StoreRating, Long> {
+
+    // 새로 등록된 상점의 빈 집계 행 생성 (리뷰를 읽지 않음, 이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO store_rating " +
+            "(store_id, review_count, rating_sum, star1, star2, star3, star4, star5, revision) " +
+            "VALUES (:storeId, 0, 0, 0, 0, 0, 0, 0, 0)",
+            nativeQuery = true)
+    int insertEmpty(@Param("storeId") Long storeId);
+
+    // 집계 행이 없는 상점을 기존 리뷰로 한 번에 초기화 (리뷰가 없는 상점은 0 으로 생성)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO store_rating " +
+            "(store_id, review_count, rating_sum, star1, star2, star3, star4, star5, revision) " +
+            "SELECT s.id, COUNT(r.id), COALESCE(SUM(r.rating), 0), " +
+            "COALESCE(SUM(r.rating = 1), 0), COALESCE(SUM(r.rating = 2), 0), COALESCE(SUM(r.rating = 3), 0), " +
+            "COALESCE(SUM(r.rating = 4), 0), COALESCE(SUM(r.rating = 5), 0), 0 " +
+            "FROM store s LEFT JOIN review r ON r.store_id = s.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM store_rating sr WHERE sr.store_id = s.id) " +
+            "GROUP BY s.id",
+            nativeQuery = true)
+    int backfillMissing();
+
+    @Modifying
+    @Query("update StoreRating r set r.reviewCount = r.reviewCount + :countDelta, " +
+            "r.ratingSum = r.ratingSum + :sumDelta, " +
+            "r.star1 = r.star1 + :star1, r.star2 = r.star2 + :star2, r.star3 = r.star3 + :star3, " +
+            "r.star4 = r.star4 + :star4, r.star5 = r.star5 + :star5, " +
+            "r.revision = r.revision + 1 " +
+            "where r.storeId = :storeId")
+    int applyDelta(@Param("storeId") Long storeId,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("star1") long star1,
+                   @Param("star2") long star2,
+                   @Param("star3") long star3,
+                   @Param("star4") long star4,
+                   @Param("star5") long star5);
+}
@@ -1,11 +1,19 @@
 package com.zerobase.zerostore.repository;
 
 import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.dto.StoreVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
@@ -14,5 +22,42 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     Optional<Store> findByIdAndOwnerId(Long id, Long ownerId);
 
     List<Store> findAllByOwnerId(Long ownerId); // 특정 소유자의 모든 상점 조회
+
+    // 특정 소유자의 모든 상호명 (일괄 등록 시 중복 확인용)
+    @Query("select s.name from Store s where s.owner.id = :ownerId")
+    List<String> findNamesByOwnerId(@Param("ownerId") Long ownerId);
+
+    // 상점 수정 시각과 평점 집계 revision 만 조회 (조건부 조회용)
+    @Query("select new com.zerobase.zerostore.dto.StoreVersion(s.updatedAt, r.revision) " +
+            "from Store s left join StoreRating r on r.storeId = s.id " +
+            "where s.id = :id")
+    Optional<StoreVersion> findVersionById(@Param("id") Long id);
+
+    // ID 순 키셋 페이지 (afterId 가 null 이면 첫 페이지)
+    @Query("select s from Store s " +
+            "where (:afterId is null or s.id > :afterId) " +
+            "order by s.id asc")
+    List<Store> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인 구성용 전체 상점 [ID, 상호명, 위치] 스트리밍 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 행 단위로 전송)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s.id, s.name, s.location from Store s")
+    Stream<Object[]> streamAllForSearch();
+
+    // 위치 인덱스 구성용 좌표가 있는 상점 [ID, 상호명, 위치, 위도, 경도] 스트리밍
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s.id, s.name, s.location, s.latitude, s.longitude from Store s " +
+            "where s.latitude is not null and s.longitude is not null")
+    Stream<Object[]> streamAllWithCoordinates();
+
+    // 전체 상점의 [ID, 상호명]
+    @Query("select s.id, s.name from Store s")
+    List<Object[]> findAllIdAndName();
 }
 
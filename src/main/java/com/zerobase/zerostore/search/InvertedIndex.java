@@ -0,0 +1,187 @@
+package com.zerobase.zerostore.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * n-gram 기준 역색인입니다.
+ * - 문서는 ID 로 등록/교체/삭제하며, 같은 ID 로 다시 등록하면 이전 내용은 색인에서 제거됩니다.
+ * - 검색은 질의의 모든 n-gram 을 포함하는 문서만 반환하고, TF-IDF 점수가 높은 순으로 정렬합니다.
+ * - 읽기는 동시에 수행되고, 쓰기는 읽기/쓰기와 배타적으로 수행됩니다.
+ *
+ * @param <K> 문서 ID 타입
+ */
+public class InvertedIndex<K extends Comparable<K>> {
+
+    // n-gram → (문서 ID → 등장 횟수)
+    private final Map<String, Map<K, Integer>> postings = new HashMap<>();
+    // 문서 ID → 해당 문서의 n-gram (삭제/교체용)
+    private final Map<K, Set<String>> documentGrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(K id, String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String gram : NGramTokenizer.tokenizeDocument(text)) {
+            frequencies.merge(gram, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            frequencies.forEach((gram, count) -> postings.computeIfAbsent(gram, g -> new HashMap<>()).put(id, count));
+            documentGrams.put(id, frequencies.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentGrams.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의의 모든 n-gram 을 포함하는 문서를 점수 순으로 반환합니다.
+     * 점수가 같으면 ID 가 큰(최근) 문서가 먼저 옵니다.
+     *
+     * @param query 검색어
+     * @param filter 결과에 포함할 문서 조건
+     * @return 점수 순 검색 결과 (질의에서 n-gram 을 만들 수 없으면 빈 목록)
+     */
+    public List<Hit<K>> search(String query, Predicate<K> filter) {
+        return search(query, filter, Integer.MAX_VALUE).hits();
+    }
+
+    /**
+     * 질의의 모든 n-gram 을 포함하는 문서 중 점수 상위 limit 개와 전체 일치 문서 수를 반환합니다.
+     * 일치 문서가 많아도 상위 limit 개만 힙으로 유지하므로 전체를 정렬하지 않습니다.
+     *
+     * @param query 검색어
+     * @param filter 결과에 포함할 문서 조건
+     * @param limit 반환할 최대 문서 수
+     * @return 점수 순 상위 문서와 전체 일치 문서 수
+     */
+    public Result<K> search(String query, Predicate<K> filter, int limit) {
+        Set<String> grams = new LinkedHashSet<>(NGramTokenizer.tokenize(query));
+        if (grams.isEmpty() || limit <= 0) {
+            return new Result<>(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<K, Integer>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Map<K, Integer> list = postings.get(gram);
+                if (list == null) {
+                    return new Result<>(List.of(), 0);
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록을 기준으로 교집합을 구함
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documentGrams.size();
+            double[] weights = new double[lists.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = Math.log(1.0 + (double) documentCount / lists.get(i).size());
+            }
+
+            // 후보가 limit 보다 많을 때만 점수가 가장 낮은 문서가 머리에 오는 크기 limit 의 힙을 사용
+            Comparator<Hit<K>> order = hitOrder();
+            boolean bounded = lists.get(0).size() > limit;
+            PriorityQueue<Hit<K>> top = new PriorityQueue<>(order.reversed());
+            List<Hit<K>> all = bounded ? null : new ArrayList<>(lists.get(0).size());
+            int total = 0;
+            for (Map.Entry<K, Integer> entry : lists.get(0).entrySet()) {
+                K id = entry.getKey();
+                if (!filter.test(id)) {
+                    continue;
+                }
+                double score = entry.getValue() * weights[0];
+                boolean matchesAll = true;
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer frequency = lists.get(i).get(id);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += frequency * weights[i];
+                }
+                if (!matchesAll) {
+                    continue;
+                }
+                total++;
+                if (!bounded) {
+                    all.add(new Hit<>(id, score));
+                } else if (top.size() < limit) {
+                    top.add(new Hit<>(id, score));
+                } else if (outranks(score, id, top.peek())) {
+                    top.poll();
+                    top.add(new Hit<>(id, score));
+                }
+            }
+
+            List<Hit<K>> hits = bounded ? new ArrayList<>(top) : all;
+            hits.sort(order);
+            return new Result<>(hits, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 힙의 최하위 문서보다 앞서는지 (객체를 만들기 전에 비교)
+    private static <K extends Comparable<K>> boolean outranks(double score, K id, Hit<K> lowest) {
+        int compared = Double.compare(score, lowest.score());
+        return compared > 0 || (compared == 0 && id.compareTo(lowest.id()) > 0);
+    }
+
+    // 점수 내림차순, 같으면 ID 내림차순
+    private static <K extends Comparable<K>> Comparator<Hit<K>> hitOrder() {
+        return Comparator.comparingDouble(Hit<K>::score).reversed()
+                .thenComparing(Hit<K>::id, Comparator.reverseOrder());
+    }
+
+    private void removeInternal(K id) {
+        Set<String> grams = documentGrams.remove(id);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Map<K, Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public record Hit<K>(K id, double score) {
+    }
+
+    public record Result<K>(List<Hit<K>> hits, int total) {
+    }
+}
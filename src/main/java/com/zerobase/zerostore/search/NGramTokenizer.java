@@ -0,0 +1,74 @@
+package com.zerobase.zerostore.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자 단위 n-gram 토크나이저입니다.
+ * 형태소 분석 없이도 한국어 부분 일치 검색이 가능하도록, 단어를 글자 2개씩 겹쳐 자릅니다.
+ * (예: "웨이팅" → "웨이", "이팅" / 한 글자 단어는 그대로 사용)
+ * 문서는 한 글자 검색어로도 찾을 수 있도록 글자 하나씩(unigram)도 함께 색인합니다.
+ */
+public final class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 검색어를 n-gram 목록으로 자릅니다. 같은 n-gram 이 여러 번 나오면 나온 횟수만큼 포함됩니다.
+     * 두 글자 이상인 단어는 2-gram 만, 한 글자 단어는 해당 글자를 사용합니다.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() < GRAM_SIZE) {
+                grams.add(word);
+                continue;
+            }
+            addBigrams(word, grams);
+        }
+        return grams;
+    }
+
+    /**
+     * 색인할 문서를 n-gram 목록으로 자릅니다.
+     * 2-gram 에 더해 모든 글자를 1-gram 으로 포함하므로, 한 글자 검색어("맛")가 긴 단어("맛있어요")와도 일치합니다.
+     */
+    public static List<String> tokenizeDocument(String text) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+            }
+            if (word.length() >= GRAM_SIZE) {
+                addBigrams(word, grams);
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static void addBigrams(String word, List<String> grams) {
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_SIZE));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.zerobase.zerostore.search;
+
+import com.zerobase.zerostore.event.ReviewChangedEvent;
+import com.zerobase.zerostore.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 리뷰 내용 검색용 인메모리 역색인입니다.
+ * - 기동 시 리뷰 테이블을 스트리밍으로 읽어 색인을 만들고, 완성된 색인으로 교체합니다.
+ * - 리뷰 작성/수정/삭제 이벤트를 받아 커밋 이후 증분 갱신합니다.
+ *   재구성 중 발생한 변경은 교체 직후 새 색인에 다시 적용합니다 (문서 단위 등록/삭제이므로 중복 적용해도 결과가 같음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndex {
+
+    private final ReviewRepository reviewRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    // 재구성 중에 발생한 변경 (재구성 중이 아니면 null)
+    private List<ReviewChangedEvent> changesDuringRebuild;
+
+    /**
+     * 질의의 모든 n-gram 을 포함하는 리뷰 중 점수 상위 limit 개의 ID 와 전체 일치 리뷰 수를 반환합니다.
+     *
+     * @param query 검색어
+     * @param storeId 상점 ID (null 이면 전체 상점)
+     * @param limit 반환할 최대 리뷰 수
+     */
+    public SearchResult search(String query, Long storeId, int limit) {
+        Snapshot current = snapshot;
+        InvertedIndex.Result<Long> result = current.index.search(query,
+                id -> storeId == null || storeId.equals(current.storeIds.get(id)), limit);
+        return new SearchResult(result.hits().stream().map(InvertedIndex.Hit::id).toList(), result.total());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        long startedAt = System.nanoTime();
+        Snapshot rebuilt = new Snapshot();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = reviewRepository.streamAllForSearch()) {
+                rows.forEach(row -> rebuilt.put((Long) row[0], (Long) row[1], (String) row[2]));
+            }
+        });
+
+        synchronized (this) {
+            changesDuringRebuild.forEach(rebuilt::apply);
+            changesDuringRebuild = null;
+            snapshot = rebuilt;
+        }
+        log.info("리뷰 검색 색인 구성 완료 - {}건, {}ms",
+                rebuilt.index.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onReviewChanged(ReviewChangedEvent event) {
+        snapshot.apply(event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    public record SearchResult(List<Long> reviewIds, int total) {
+    }
+
+    private static class Snapshot {
+        private final InvertedIndex<Long> index = new InvertedIndex<>();
+        // 리뷰 ID → 상점 ID (상점 필터용)
+        private final Map<Long, Long> storeIds = new ConcurrentHashMap<>();
+
+        void put(Long reviewId, Long storeId, String content) {
+            storeIds.put(reviewId, storeId);
+            index.put(reviewId, content);
+        }
+
+        void apply(ReviewChangedEvent event) {
+            if (event.getType() == ReviewChangedEvent.ChangeType.DELETED) {
+                index.remove(event.getReviewId());
+                storeIds.remove(event.getReviewId());
+            } else {
+                put(event.getReviewId(), event.getStoreId(), event.getContent());
+            }
+        }
+    }
+}
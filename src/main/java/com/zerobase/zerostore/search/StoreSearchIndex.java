@@ -0,0 +1,100 @@
+package com.zerobase.zerostore.search;
+
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 상점명/위치 검색용 인메모리 역색인입니다.
+ * - 기동 시 상점 테이블을 스트리밍으로 읽어 색인을 만들고, 완성된 색인으로 교체합니다.
+ * - 상점 등록/수정/삭제 이벤트에 담긴 상점명/위치로 커밋 이후 증분 갱신합니다. (상점을 다시 조회하지 않음)
+ *   재구성 중 발생한 변경은 교체 직전 잠금 안에서 새 색인에 다시 적용하므로, 이후의 변경보다 늦게 반영되지 않습니다.
+ * - 상점명은 두 번 색인하여, 같은 검색어라도 위치보다 상점명에서 일치한 상점이 먼저 오도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+
+    private final StoreRepository storeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile InvertedIndex<Long> index = new InvertedIndex<>();
+
+    // 재구성 중에 발생한 변경 (재구성 중이 아니면 null)
+    private List<StoreChangedEvent> changesDuringRebuild;
+
+    /**
+     * 질의의 모든 n-gram 을 상점명 또는 위치에 포함하는 상점 중 점수 상위 limit 개의 ID 와 전체 일치 상점 수를 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 반환할 최대 상점 수
+     */
+    public SearchResult search(String query, int limit) {
+        InvertedIndex.Result<Long> result = index.search(query, id -> true, limit);
+        return new SearchResult(result.hits().stream().map(InvertedIndex.Hit::id).toList(), result.total());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        long startedAt = System.nanoTime();
+        InvertedIndex<Long> rebuilt = new InvertedIndex<>();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = storeRepository.streamAllForSearch()) {
+                rows.forEach(row -> rebuilt.put((Long) row[0], textOf((String) row[1], (String) row[2])));
+            }
+        });
+
+        // 재구성 중 발생한 변경을 교체 전에 새 색인에 순서대로 다시 적용 (그 사이 새 변경은 잠금으로 대기)
+        synchronized (this) {
+            changesDuringRebuild.forEach(event -> apply(rebuilt, event));
+            changesDuringRebuild = null;
+            index = rebuilt;
+        }
+        log.info("상점 검색 색인 구성 완료 - {}건, {}ms",
+                rebuilt.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStoreChanged(StoreChangedEvent event) {
+        apply(index, event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    // 이벤트에 담긴 상점명/위치로 갱신하므로 상점을 다시 조회하지 않음
+    private static void apply(InvertedIndex<Long> target, StoreChangedEvent event) {
+        if (event.getType() == StoreChangedEvent.ChangeType.DELETED) {
+            target.remove(event.getStoreId());
+        } else {
+            target.put(event.getStoreId(), textOf(event.getName(), event.getLocation()));
+        }
+    }
+
+    public record SearchResult(List<Long> storeIds, int total) {
+    }
+
+    static String textOf(String name, String location) {
+        return name + " " + name + " " + location;
+    }
+}
@@ -1,9 +1,16 @@
 package com.zerobase.zerostore.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.type.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,8 +19,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.util.Base64;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -27,29 +36,92 @@ public class JwtTokenProvider {
     private String SECRET_KEY;
     private static final long EXPIRATION_TIME = 24 * 60 * 60 * 1000; // 유효기간 최대 하루
 
-    public String generateToken(String phoneNumber) {
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_NAME = "name";
+
+    // true 이면 토큰 클레임만으로 인증 주체를 구성하고 DB 를 조회하지 않음
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // 서명 키는 기동 시 한 번만 생성
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 서명 검증이 끝난 토큰의 클레임 캐시 (토큰 만료 시각에 함께 만료)
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = new SecretKeySpec(SECRET_KEY.getBytes(), SignatureAlgorithm.HS512.getJcaName());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + EXPIRATION_TIME);
 
-        Claims claims = Jwts.claims().setSubject(phoneNumber);
-
-        String key = getSecretKey();
+        Claims claims = Jwts.claims().setSubject(user.getPhoneNumber());
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_NAME, user.getName());
 
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, key)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
 
         return TOKEN_PREFIX + token;
     }
 
     public Authentication getAuthentication(String jwt) {
-        UserDetails userDetails = this.userService.loadUserByUsername(this.getUseNumber(jwt));
+        Claims claims = this.parseClaims(jwt);
+        UserDetails userDetails = statelessPrincipal && claims.get(CLAIM_USER_ID) != null
+                ? toPrincipal(claims)
+                : this.userService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /**
+     * 토큰 클레임으로 가벼운 인증 주체를 생성합니다.
+     * 비밀번호 등 클레임에 없는 정보는 비어 있으며, 엔티티가 필요한 서비스는 ID 로 직접 조회해야 합니다.
+     * 역할이 바뀐 경우 재로그인 전까지는 토큰에 담긴 역할이 유지됩니다.
+     */
+    private UserDetails toPrincipal(Claims claims) {
+        User user = User.builder()
+                .id(claims.get(CLAIM_USER_ID, Number.class).longValue())
+                .phoneNumber(claims.getSubject())
+                .name(claims.get(CLAIM_NAME, String.class))
+                .role(Role.valueOf(claims.get(CLAIM_ROLE, String.class)))
+                .build();
+        return new UserDetailsImpl(user);
+    }
+
     public String getUseNumber(String token) {
         return this.parseClaims(token).getSubject();
     }
@@ -62,16 +134,19 @@ public class JwtTokenProvider {
     }
 
     public Claims parseClaims(String token) {
+        // 이미 검증된 토큰이면 서명 검증을 생략
+        Claims cached = verifiedClaims.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            return Jwts.parser().setSigningKey(getSecretKey()).parseClaimsJws(token).getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedClaims.put(token, claims);
+            return claims;
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
-    public String getSecretKey(){
-        return Base64.getEncoder().encodeToString(SECRET_KEY.getBytes());
-    }
-
 }
-
@@ -0,0 +1,113 @@
+package com.zerobase.zerostore.security;
+
+import com.zerobase.zerostore.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.zerobase.zerostore.type.ErrorCode.PASSWORD_HASHING_BUSY;
+
+/**
+ * 비밀번호 해싱/검증을 전용 스레드 풀에서 수행하는 컴포넌트입니다.
+ * BCrypt 연산이 요청 처리 스레드를 점유하지 않도록 크기와 대기열이 제한된 풀을 사용하며,
+ * 대기열이 가득 차면 즉시 503 예외를 발생시킵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 0 이하이면 CPU 코어 수를 사용
+    @Value("${security.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${security.password-hashing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${security.password-hashing.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueWaitTimer;
+    private Timer hashTimer;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .description("비밀번호 해싱 요청이 대기열에서 기다린 시간 (제출부터 시작까지)")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing.duration")
+                .description("비밀번호 해싱/검증 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 비밀번호를 비동기로 암호화합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 암호화된 비밀번호
+     * @throws ServiceUnavailableException 해싱 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호와 암호화된 비밀번호의 일치 여부를 비동기로 확인합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 암호화 비밀번호
+     * @return 일치 여부
+     * @throws ServiceUnavailableException 해싱 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(PASSWORD_HASHING_BUSY, retryAfterSeconds);
+        }
+    }
+}
@@ -38,7 +38,8 @@ public class SecurityConfig {
                 .addFilterBefore(this.authenticationFilter, UsernamePasswordAuthenticationFilter.class) // 필터목록에 커스텀 필터 추가
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers( "/swagger-ui/**", "/v3/api-docs/**","/api/user/*").permitAll() // 인증 없이 접근 허용
-                        .requestMatchers(HttpMethod.GET,"/api/review/store/{storeId}","/api/store/{storeId}","/api/store").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/store/export").authenticated() // /api/store/{storeId} 보다 먼저 매칭
+                        .requestMatchers(HttpMethod.GET,"/api/review/store/{storeId}","/api/review/search","/api/store/{storeId}","/api/store/{storeId}/availability","/api/store","/api/store/ranking","/api/store/search","/api/store/nearby").permitAll()
                         .anyRequest().authenticated() // 그 외 모든 요청은 인증 필요
                 );
         return http.build();
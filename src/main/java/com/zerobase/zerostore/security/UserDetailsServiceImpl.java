@@ -1,13 +1,24 @@
 package com.zerobase.zerostore.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zerostore.event.UserRoleChangedEvent;
 import com.zerobase.zerostore.exception.CustomException;
 import com.zerobase.zerostore.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
 
 import static com.zerobase.zerostore.type.ErrorCode.USER_NOT_FOUND;
 
@@ -15,11 +26,40 @@ import static com.zerobase.zerostore.type.ErrorCode.USER_NOT_FOUND;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // 전화번호 기준 인증 정보 캐시
+    private Cache<String, UserDetailsImpl> principalCache;
+
+    @PostConstruct
+    void init() {
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "principal");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String number) throws UsernameNotFoundException {
-        return this.userRepository.findByPhoneNumber(number)
+        return this.principalCache.get(number, key -> this.userRepository.findByPhoneNumber(key)
                 .map(UserDetailsImpl::new)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND)));
+    }
+
+    /**
+     * 역할 변경이 커밋된 후 캐시된 인증 정보를 제거합니다.
+     * 커밋 전에 제거하면 다른 요청이 이전 역할을 다시 캐시할 수 있으므로 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        this.principalCache.invalidate(event.getPhoneNumber());
     }
-}
\ No newline at end of file
+}
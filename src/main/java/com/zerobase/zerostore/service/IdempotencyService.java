@@ -0,0 +1,178 @@
+package com.zerobase.zerostore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zerostore.domain.IdempotencyRecord;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.zerobase.zerostore.type.ErrorCode.*;
+
+/**
+ * Idempotency-Key 헤더로 생성 요청의 중복 실행을 막습니다.
+ * - 처리 결과는 작업과 같은 트랜잭션에서 DB 에 저장되므로, 작업이 커밋된 경우에만 키가 남습니다.
+ * - 같은 키의 재요청은 메모리 캐시, DB 순으로 조회하여 저장된 응답을 그대로 반환합니다.
+ * - 같은 키로 동시에 들어온 요청은 유니크 제약으로 하나만 커밋되고, 나머지는 먼저 커밋된 응답을 반환합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // 범위가 지정된 키 기준 처리 결과 캐시
+    private Cache<String, StoredResponse> responseCache;
+
+    @PostConstruct
+    void init() {
+        this.responseCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responseCache, "idempotency");
+    }
+
+    /**
+     * 멱등 키가 없으면 작업을 그대로 실행하고, 있으면 키당 한 번만 실행합니다.
+     *
+     * @param userId 요청한 사용자 ID (키 범위)
+     * @param operation 작업 이름 (키 범위)
+     * @param key 클라이언트가 보낸 Idempotency-Key
+     * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 확인)
+     * @param responseType 응답 타입
+     * @param action 실행할 작업
+     * @return 작업 결과 또는 이전에 저장된 응답
+     * @throws CustomException 키가 너무 길거나, 같은 키로 다른 요청을 보낸 경우 예외 발생
+     */
+    public <T> T execute(Long userId, String operation, String key, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (!StringUtils.hasText(key)) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(INVALID_REQUEST);
+        }
+
+        String scopedKey = userId + ":" + operation + ":" + key;
+        String requestHash = hash(toJson(request));
+
+        StoredResponse cached = responseCache.getIfPresent(scopedKey);
+        if (cached != null) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        try {
+            StoredResponse stored = transactionTemplate.execute(status -> {
+                Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByIdempotencyKey(scopedKey);
+                if (existing.isPresent()) {
+                    if (existing.get().getExpiresAt().isAfter(LocalDateTime.now())) {
+                        return StoredResponse.of(existing.get());
+                    }
+                    idempotencyRecordRepository.delete(existing.get());
+                    idempotencyRecordRepository.flush();
+                }
+
+                T response = action.get();
+                IdempotencyRecord record = idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .idempotencyKey(scopedKey)
+                        .requestHash(requestHash)
+                        .responseBody(toJson(response))
+                        .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                        .build());
+                return StoredResponse.of(record);
+            });
+            responseCache.put(scopedKey, stored);
+            return replay(stored, requestHash, responseType);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 다른 요청이 먼저 커밋됨 (현재 트랜잭션의 작업은 롤백됨)
+            // 기록이 없다면 작업 자체의 제약 조건 위반이므로 그대로 전달
+            StoredResponse winner = idempotencyRecordRepository.findByIdempotencyKey(scopedKey)
+                    .map(StoredResponse::of)
+                    .orElseThrow(() -> e);
+            responseCache.put(scopedKey, winner);
+            return replay(winner, requestHash, responseType);
+        }
+    }
+
+    /**
+     * 만료된 멱등 키 기록을 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-millis:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 멱등 키 삭제 - {}건", deleted);
+        }
+    }
+
+    private <T> T replay(StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new CustomException(IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return objectMapper.readValue(stored.responseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청/응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, String responseBody) {
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getRequestHash(), record.getResponseBody());
+        }
+    }
+}
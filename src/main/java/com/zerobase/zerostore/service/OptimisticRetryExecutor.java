@@ -0,0 +1,70 @@
+package com.zerobase.zerostore.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션을 새로 시작하여 작업을 재시도합니다.
+ * - 작업은 매 시도마다 엔티티를 다시 조회하고 상태 전환 규칙을 다시 검증해야 합니다.
+ * - 재시도 횟수를 모두 소진하면 마지막 충돌 예외를 그대로 던집니다.
+ * - 충돌/재시도/실패 횟수는 작업 이름별 메트릭으로 기록됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${optimistic-retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${optimistic-retry.backoff-millis:20}")
+    private long backoffMillis;
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("optimistic.lock.conflicts", "operation", operation).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.lock.exhausted", "operation", operation).increment();
+                    log.warn("낙관적 락 충돌 재시도 소진 - 작업: {}, 시도 횟수: {}", operation, attempt);
+                    throw e;
+                }
+                meterRegistry.counter("optimistic.lock.retries", "operation", operation).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 동시에 충돌한 요청이 같은 시점에 재시도하지 않도록 지터를 더해 대기
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
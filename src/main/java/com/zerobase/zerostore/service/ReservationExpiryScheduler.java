@@ -0,0 +1,102 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.repository.ReservationRepository;
+import com.zerobase.zerostore.repository.SchedulerLeaseRepository;
+import com.zerobase.zerostore.type.ReservationStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 시간이 지난 대기 상태의 예약을 주기적으로 만료 처리하는 스케줄러입니다.
+ * - (상태, 예약 시간, ID) 인덱스를 따라 (예약 시간, ID) 키셋으로 일정 크기씩 만료 대상을 찾고,
+ *   엔티티를 로딩하지 않고 벌크 UPDATE 로 상태를 변경합니다.
+ * - DB 임대 행으로 여러 노드 중 한 노드만 실행되도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryScheduler {
+
+    private static final String LEASE_NAME = "reservation-expiry";
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReservationRepository reservationRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${reservation.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${reservation.expiry.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${reservation.expiry.interval-millis:60000}")
+    public void expirePendingReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!acquireLease(now)) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        int processed = 0;
+        try {
+            // (예약 시간, ID) 순으로 이어서 조회 (인덱스 순서와 같아 정렬 없이 범위 스캔)
+            LocalDateTime lastTime = KEYSET_START;
+            Long lastId = 0L;
+            while (true) {
+                List<Object[]> rows = reservationRepository.findExpired(
+                        ReservationStatus.PENDING, now, lastTime, lastId, PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+
+                Integer updated = transactionTemplate.execute(status -> reservationRepository.updateStatusByIds(
+                        ids, ReservationStatus.PENDING, ReservationStatus.EXPIRED, LocalDateTime.now()));
+                processed += updated == null ? 0 : updated;
+                Object[] last = rows.get(rows.size() - 1);
+                lastId = (Long) last[0];
+                lastTime = (LocalDateTime) last[1];
+
+                if (ids.size() < chunkSize || !acquireLease(LocalDateTime.now())) {
+                    break;
+                }
+            }
+        } finally {
+            releaseLease();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        meterRegistry.counter("reservation.expiry.processed").increment(processed);
+        meterRegistry.timer("reservation.expiry.duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("만료 예약 처리 완료 - 처리 건수: {}, 소요 시간: {}ms", processed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    // 임대를 획득하거나 연장
+    private boolean acquireLease(LocalDateTime now) {
+        Boolean acquired = transactionTemplate.execute(status -> {
+            schedulerLeaseRepository.insertIfAbsent(LEASE_NAME, now);
+            return schedulerLeaseRepository.tryAcquire(LEASE_NAME, nodeId, now, now.plusSeconds(leaseSeconds)) > 0;
+        });
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private void releaseLease() {
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLeaseRepository.release(LEASE_NAME, nodeId, LocalDateTime.now()));
+    }
+}
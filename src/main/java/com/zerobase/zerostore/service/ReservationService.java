@@ -3,18 +3,31 @@ package com.zerobase.zerostore.service;
 import com.zerobase.zerostore.domain.Reservation;
 import com.zerobase.zerostore.domain.Store;
 import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.CursorPageResponse;
+import com.zerobase.zerostore.dto.KeysetCursor;
 import com.zerobase.zerostore.dto.ReservationRequest;
 import com.zerobase.zerostore.dto.ReservationResponse;
+import com.zerobase.zerostore.dto.ReservationSearchRequest;
+import com.zerobase.zerostore.dto.ReservationStatusResult;
+import com.zerobase.zerostore.event.ReservationSlotChangedEvent;
 import com.zerobase.zerostore.exception.CustomException;
 import com.zerobase.zerostore.repository.ReservationRepository;
 import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.repository.UserRepository;
 import com.zerobase.zerostore.type.ReservationStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.zerobase.zerostore.type.ErrorCode.*;
@@ -23,18 +36,25 @@ import static com.zerobase.zerostore.type.ErrorCode.*;
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
+    private final UserRepository userRepository;
+    private final ReservationSlotCapacityManager reservationSlotCapacityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
 
     /**
      * 새로운 예약을 생성하는 메서드입니다.
      * - 예약 시간은 과거 시간일 수 없으며, 30분 단위로만 예약할 수 있습니다.
      * - 예약하려는 상점이 존재하는지 확인합니다.
+     * - 상점의 시간대별 정원을 초과하는 예약은 생성할 수 없습니다.
      *
      * @param user 예약을 생성할 사용자
      * @param request 예약 요청 정보
      * @return 생성된 예약의 응답 정보
-     * @throws CustomException 과거 예약 시간, 30분 단위가 아닌 예약 시간, 상점이 존재하지 않는 경우 예외 발생
+     * @throws CustomException 과거 예약 시간, 30분 단위가 아닌 예약 시간, 상점이 존재하지 않거나 정원이 가득 찬 경우 예외 발생
      */
     @Transactional
     public ReservationResponse createReservation(User user, ReservationRequest request) {
@@ -55,16 +75,20 @@ public class ReservationService {
         Store store = storeRepository.findById(request.getStoreId())
                 .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
 
-        // 예약 생성
+        // 시간대 정원 확보 (정원 초과 시 예외)
+        reservationSlotCapacityManager.reserve(store, reservationTime);
+
+        // 예약 생성 (인증 주체는 엔티티 조회 없이 참조로만 연결)
         Reservation reservation = Reservation.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(user.getId()))
                 .store(store)
                 .reservationTime(reservationTime)
-                .status(ReservationStatus.PENDING.getStatus())  // 기본 상태: 대기 중
+                .status(ReservationStatus.PENDING)  // 기본 상태: 대기 중
                 .used(false)  // 기본적으로 사용되지 않은 예약
                 .build();
 
         reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationSlotChangedEvent(store.getId(), reservationTime, 1));
 
         return new ReservationResponse(
                 reservation.getId(),
@@ -77,31 +101,36 @@ public class ReservationService {
 
     /**
      * 사용자가 자신의 예약 목록을 조회하는 메서드입니다.
+     * 예약 시간, ID 순으로 정렬되며 커서 기반으로 페이지를 나누어 조회합니다.
      *
      * @param user 예약 목록을 조회할 사용자
-     * @return 사용자의 예약 목록
+     * @param request 커서, 페이지 크기, 기간 및 상태 필터
+     * @return 사용자의 예약 목록 페이지
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외 발생
      */
-    public List<ReservationResponse> getReservationsByUser(User user) {
-        return reservationRepository.findAllByUserId(user.getId()).stream()
-                .map(reservation -> new ReservationResponse(
-                        reservation.getId(),
-                        reservation.getStore().getName(),
-                        reservation.getUser().getName(),
-                        reservation.getReservationTime(),
-                        reservation.getStatus()
-                ))
-                .collect(Collectors.toList());
+    public CursorPageResponse<ReservationResponse> getReservationsByUser(User user, ReservationSearchRequest request) {
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+        int size = pageSizeOf(request);
+
+        List<ReservationResponse> rows = reservationRepository.findPageByUserId(
+                user.getId(), request.getFrom(), request.getTo(), request.getStatus(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+
+        return toPage(rows, size);
     }
 
     /**
      * 파트너(상점 소유자)가 자신의 상점에 대한 예약 목록을 조회하는 메서드입니다.
+     * 예약 시간, ID 순으로 정렬되며 커서 기반으로 페이지를 나누어 조회합니다.
      *
      * @param storeId 조회할 상점의 ID
      * @param user 예약 목록을 조회할 파트너
-     * @return 상점에 대한 예약 목록
-     * @throws CustomException 상점이 존재하지 않거나, 사용자가 상점 소유자가 아닌 경우 예외 발생
+     * @param request 커서, 페이지 크기, 기간 및 상태 필터
+     * @return 상점에 대한 예약 목록 페이지
+     * @throws CustomException 상점이 존재하지 않거나, 사용자가 상점 소유자가 아니거나, 커서 형식이 올바르지 않은 경우 예외 발생
      */
-    public List<ReservationResponse> getReservationsByStore(Long storeId, User user) {
+    public CursorPageResponse<ReservationResponse> getReservationsByStore(Long storeId, User user, ReservationSearchRequest request) {
         // 상점 존재 여부 확인
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
@@ -111,15 +140,24 @@ public class ReservationService {
             throw new CustomException(ACCESS_DENIED);
         }
 
-        return reservationRepository.findAllByStoreId(storeId).stream()
-                .map(reservation -> new ReservationResponse(
-                        reservation.getId(),
-                        reservation.getStore().getName(),
-                        reservation.getUser().getName(),
-                        reservation.getReservationTime(),
-                        reservation.getStatus()
-                ))
-                .collect(Collectors.toList());
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+        int size = pageSizeOf(request);
+
+        List<ReservationResponse> rows = reservationRepository.findPageByStoreId(
+                storeId, request.getFrom(), request.getTo(), request.getStatus(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+
+        return toPage(rows, size);
+    }
+
+    private CursorPageResponse<ReservationResponse> toPage(List<ReservationResponse> rows, int size) {
+        return CursorPageResponse.of(rows, size,
+                last -> KeysetCursor.encode(last.getReservationTime(), last.getId()));
+    }
+
+    private static int pageSizeOf(ReservationSearchRequest request) {
+        return Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
     }
 
     /**
@@ -131,17 +169,75 @@ public class ReservationService {
      * @param user 예약 상태를 변경할 사용자 (파트너)
      * @throws CustomException 예약이 존재하지 않거나, 사용자가 상점 소유자가 아닌 경우 예외 발생
      */
-    @Transactional
-    public void updateReservationStatus(Long reservationId, String status, User user) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
+    public void updateReservationStatus(Long reservationId, ReservationStatus status, User user) {
+        // 동시 변경과 충돌하면 예약을 다시 조회해 전환 규칙을 재검증
+        optimisticRetryExecutor.run("reservation.status", () -> {
+            Reservation reservation = reservationRepository.findById(reservationId)
+                    .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
 
-        // 상점 소유자 검증
-        if (!reservation.getStore().getOwner().getId().equals(user.getId())) {
-            throw new CustomException(ACCESS_DENIED);
+            // 상점 소유자 검증
+            if (!reservation.getStore().getOwner().getId().equals(user.getId())) {
+                throw new CustomException(ACCESS_DENIED);
+            }
+
+            changeStatus(reservation, status);
+        });
+    }
+
+    /**
+     * 여러 예약의 상태를 한 번에 변경하는 메서드입니다.
+     * - 예약과 상점을 한 번의 쿼리로 조회해 소유자를 검증하고, 변경 내용은 JDBC 배치로 반영됩니다.
+     * - 일부 예약의 변경이 실패해도 나머지 예약은 변경되며, 예약별 처리 결과를 반환합니다.
+     * - 동시 변경과 충돌하면 전체를 다시 조회해 재시도합니다.
+     *
+     * @param reservationIds 변경할 예약 ID 목록
+     * @param status 변경할 예약 상태
+     * @param user 예약 상태를 변경할 사용자 (파트너)
+     * @return 예약별 처리 결과
+     */
+    public List<ReservationStatusResult> updateReservationStatuses(List<Long> reservationIds, ReservationStatus status, User user) {
+        return optimisticRetryExecutor.execute("reservation.status.bulk",
+                () -> changeStatuses(new LinkedHashSet<>(reservationIds), status, user));
+    }
+
+    private List<ReservationStatusResult> changeStatuses(Set<Long> ids, ReservationStatus status, User user) {
+        Map<Long, Reservation> reservations = reservationRepository.findAllWithStoreByIdIn(ids).stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        List<ReservationStatusResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Reservation reservation = reservations.get(id);
+            if (reservation == null) {
+                results.add(ReservationStatusResult.failure(id, RESERVATION_NOT_FOUND.getDescription()));
+                continue;
+            }
+
+            // 상점 소유자 검증
+            if (!reservation.getStore().getOwner().getId().equals(user.getId())) {
+                results.add(ReservationStatusResult.failure(id, ACCESS_DENIED.getDescription()));
+                continue;
+            }
+
+            try {
+                changeStatus(reservation, status);
+                results.add(ReservationStatusResult.success(id));
+            } catch (CustomException e) {
+                results.add(ReservationStatusResult.failure(id, e.getErrorMessage()));
+            }
         }
+        return results;
+    }
 
+    // 상태 전환 규칙을 적용하고, 거절된 예약은 시간대 정원을 반환
+    private void changeStatus(Reservation reservation, ReservationStatus status) {
+        ReservationStatus previousStatus = reservation.getStatus();
         reservation.setStatus(status);
+
+        if (status == ReservationStatus.REJECTED && previousStatus != ReservationStatus.REJECTED) {
+            reservationSlotCapacityManager.release(reservation.getStore().getId(), reservation.getReservationTime());
+            eventPublisher.publishEvent(new ReservationSlotChangedEvent(
+                    reservation.getStore().getId(), reservation.getReservationTime(), -1));
+        }
     }
 
     /**
@@ -153,25 +249,27 @@ public class ReservationService {
      * @throws CustomException 예약이 존재하지 않거나, 사용자가 상점 소유자가 아닌 경우,
      *                         예약 시간이 현재 시간 기준 10분 전 이후인 경우 예외 발생
      */
-    @Transactional
     public void markReservationAsUsed(Long reservationId, User user) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
+        // 동시 변경과 충돌하면 예약을 다시 조회해 사용 처리 규칙을 재검증
+        optimisticRetryExecutor.run("reservation.use", () -> {
+            Reservation reservation = reservationRepository.findById(reservationId)
+                    .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
 
-        // 상점 소유자 검증
-        if (!reservation.getStore().getOwner().getId().equals(user.getId())) {
-            throw new CustomException(ACCESS_DENIED);
-        }
+            // 상점 소유자 검증
+            if (!reservation.getStore().getOwner().getId().equals(user.getId())) {
+                throw new CustomException(ACCESS_DENIED);
+            }
 
-        // 현재 시간과 예약 시간 비교
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime reservationTime = reservation.getReservationTime();
+            // 현재 시간과 예약 시간 비교
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime reservationTime = reservation.getReservationTime();
 
-        // 예약 시간이 현재 시간 기준 10분 전 이후인지 확인
-        if (now.isBefore(reservationTime.minusMinutes(10))) {
-            throw new CustomException(INVALID_INPUT_VALUE);
-        }
+            // 예약 시간이 현재 시간 기준 10분 전 이후인지 확인
+            if (now.isBefore(reservationTime.minusMinutes(10))) {
+                throw new CustomException(INVALID_INPUT_VALUE);
+            }
 
-        reservation.setUsed(true);
+            reservation.setUsed(true);
+        });
     }
 }
\ No newline at end of file
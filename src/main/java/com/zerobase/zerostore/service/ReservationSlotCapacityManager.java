@@ -0,0 +1,145 @@
+package com.zerobase.zerostore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.ReservationSlotRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.zerobase.zerostore.type.ErrorCode.RESERVATION_SLOT_FULL;
+
+/**
+ * 상점/시간대별 예약 정원을 관리하는 컴포넌트입니다.
+ * - 정원의 기준은 DB 카운터 행(reservation_slot)이며, 조건부 UPDATE 로 원자적으로 증가시키므로
+ *   여러 노드에서 동시에 요청이 들어와도 초과 예약이 발생하지 않습니다.
+ * - 예약 경로에서는 예약 테이블을 세지 않습니다. 카운터 행은 시간대의 첫 예약 때 0 으로 만들어지고,
+ *   카운터 도입 전의 예약은 기동 시 백필로 반영됩니다.
+ * - 같은 시간대에 대한 경합은 DB 가 카운터 행 잠금으로 직렬화하므로 애플리케이션 락을 두지 않습니다.
+ *   마감된 시간대는 잠시 메모리에 기록해, UPDATE 전에 확인하여 DB 조회 없이 즉시 거절합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotCapacityManager {
+
+    private final ReservationSlotRepository reservationSlotRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${reservation.slot.default-capacity:10}")
+    private int defaultCapacity;
+
+    @Value("${reservation.slot.full-hint-ttl-millis:1000}")
+    private long fullHintTtlMillis;
+
+    @Value("${reservation.slot.full-hints-max-size:10000}")
+    private long fullHintsMaxSize;
+
+    @Value("${reservation.slot.known-slots-max-size:100000}")
+    private long knownSlotsMaxSize;
+
+    // 최근 마감이 확인된 시간대 (TTL 이 지나면 자동 제거)
+    private Cache<SlotKey, Boolean> fullSlotHints;
+
+    // 카운터 행이 있는 것으로 확인된 시간대
+    private Cache<SlotKey, Boolean> knownSlots;
+    private TransactionTemplate slotRowTransaction;
+
+    @PostConstruct
+    void init() {
+        this.fullSlotHints = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(fullHintTtlMillis))
+                .maximumSize(fullHintsMaxSize)
+                .build();
+        this.knownSlots = Caffeine.newBuilder()
+                .maximumSize(knownSlotsMaxSize)
+                .build();
+        this.slotRowTransaction = new TransactionTemplate(transactionManager);
+        this.slotRowTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 상점의 시간대별 정원을 반환합니다. 상점에 정원이 지정되지 않았다면 기본값을 사용합니다.
+     */
+    public int capacityOf(Store store) {
+        return store.getSlotCapacity() != null ? store.getSlotCapacity() : defaultCapacity;
+    }
+
+    /**
+     * 해당 시간대의 정원을 하나 차지합니다.
+     * 호출한 트랜잭션이 롤백되면 DB 카운터도 함께 롤백됩니다.
+     *
+     * @param store 예약할 상점
+     * @param slotTime 예약 시간대
+     * @throws CustomException 정원이 가득 찬 경우 예외 발생
+     */
+    public void reserve(Store store, LocalDateTime slotTime) {
+        SlotKey key = new SlotKey(store.getId(), slotTime);
+
+        // 최근 마감이 확인된 시간대는 DB 조회 없이 거절
+        if (fullSlotHints.getIfPresent(key) != null) {
+            throw new CustomException(RESERVATION_SLOT_FULL);
+        }
+
+        ensureSlotRow(key);
+
+        if (reservationSlotRepository.incrementIfAvailable(key.storeId(), key.slotTime(), capacityOf(store)) == 0) {
+            fullSlotHints.put(key, Boolean.TRUE);
+            throw new CustomException(RESERVATION_SLOT_FULL);
+        }
+    }
+
+    /**
+     * 차지했던 정원을 반환합니다. (예약 거절 등)
+     *
+     * @param storeId 상점 ID
+     * @param slotTime 예약 시간대
+     */
+    public void release(Long storeId, LocalDateTime slotTime) {
+        SlotKey key = new SlotKey(storeId, slotTime);
+        if (reservationSlotRepository.decrement(storeId, slotTime) > 0) {
+            afterCommit(() -> fullSlotHints.invalidate(key));
+        }
+    }
+
+    /**
+     * 카운터 행이 없으면 0 으로 만듭니다.
+     * 호출한 트랜잭션과 분리된 짧은 트랜잭션에서 실행하므로, 행 생성 시의 잠금이 예약 트랜잭션까지 이어지지 않아
+     * 같은 시간대의 첫 예약들이 서로 교착 상태에 빠지지 않습니다.
+     * 이미 있는 것으로 확인된 시간대는 DB 를 조회하지 않습니다. (기존 예약 수는 기동 시 백필로 반영됨)
+     */
+    private void ensureSlotRow(SlotKey key) {
+        if (knownSlots.getIfPresent(key) != null) {
+            return;
+        }
+        slotRowTransaction.executeWithoutResult(status ->
+                reservationSlotRepository.insertIfAbsent(key.storeId(), key.slotTime()));
+        knownSlots.put(key, Boolean.TRUE);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record SlotKey(Long storeId, LocalDateTime slotTime) {
+    }
+}
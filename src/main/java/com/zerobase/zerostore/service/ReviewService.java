@@ -1,21 +1,45 @@
 package com.zerobase.zerostore.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.zerobase.zerostore.domain.Reservation;
 import com.zerobase.zerostore.domain.Review;
-import com.zerobase.zerostore.domain.Store;
 import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.CursorPageResponse;
+import com.zerobase.zerostore.dto.KeysetCursor;
+import com.zerobase.zerostore.dto.PageResponse;
 import com.zerobase.zerostore.dto.ReviewRequest;
 import com.zerobase.zerostore.dto.ReviewResponse;
+import com.zerobase.zerostore.dto.ReviewSearchRequest;
+import com.zerobase.zerostore.dto.StoreVersion;
+import com.zerobase.zerostore.dto.VersionedResponse;
+import com.zerobase.zerostore.event.ReviewChangedEvent;
+import com.zerobase.zerostore.event.ReviewChangedEvent.ChangeType;
+import com.zerobase.zerostore.event.StoreChangedEvent;
 import com.zerobase.zerostore.exception.CustomException;
 import com.zerobase.zerostore.repository.ReservationRepository;
 import com.zerobase.zerostore.repository.ReviewRepository;
 import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.search.ReviewSearchIndex;
 import com.zerobase.zerostore.type.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.zerobase.zerostore.type.ErrorCode.*;
@@ -24,21 +48,51 @@ import static com.zerobase.zerostore.type.ErrorCode.*;
 @RequiredArgsConstructor
 public class ReviewService {
 
-    private final StoreRepository storeRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
+    private final StoreRatingAggregator storeRatingAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.store-reviews.max-size:5000}")
+    private long reviewCacheMaxSize;
+
+    @Value("${cache.store-reviews.ttl-seconds:30}")
+    private long reviewCacheTtlSeconds;
+
+    // 상점별 리뷰 첫 페이지(기본 크기, 필터 없음) 캐시 (조회 직전에 읽은 버전 태그와 함께 저장)
+    private Cache<Long, VersionedResponse<CursorPageResponse<ReviewResponse>>> firstPageCache;
+
+    @PostConstruct
+    void init() {
+        this.firstPageCache = Caffeine.newBuilder()
+                .maximumSize(reviewCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(reviewCacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, firstPageCache, "store-reviews");
+    }
 
     /**
      * 사용자가 리뷰를 작성하는 메서드입니다.
      * 해당 예약이 사용된 상태인지 확인하고, 사용자가 예약한 사람인지 확인한 후 리뷰를 작성합니다.
+     * 상점 평점 집계도 같은 트랜잭션에서 갱신됩니다.
      *
      * @param user 리뷰를 작성할 사용자
      * @param request 리뷰 작성 요청 정보
      * @return 작성된 리뷰의 응답 정보
-     * @throws CustomException 예약이 사용되지 않았거나, 사용자가 예약자가 아닌 경우 예외 발생
+     * @throws CustomException 평점이 1~5 범위가 아니거나, 예약이 사용되지 않았거나, 사용자가 예약자가 아닌 경우 예외 발생
      */
     @Transactional
     public ReviewResponse createReview(User user, ReviewRequest request) {
+        StoreRatingAggregator.validateRating(request.getRating());
+
         // 예약 존재 여부 및 사용 여부 확인
         Reservation reservation = reservationRepository.findById(request.getReservationId())
                 .orElseThrow(() -> new CustomException(RESERVATION_NOT_FOUND));
@@ -52,33 +106,46 @@ public class ReviewService {
             throw new CustomException(ACCESS_DENIED);
         }
 
-        // 리뷰 작성
+        // 리뷰 작성 (인증 주체는 엔티티 조회 없이 참조로만 연결)
         Review review = Review.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(user.getId()))
                 .store(reservation.getStore())
                 .reservation(reservation)
                 .content(request.getContent())
                 .rating(request.getRating())
                 .build();
 
-        // 리뷰 저장
+        // 리뷰 저장 및 평점 집계 반영
+        Long storeId = reservation.getStore().getId();
         reviewRepository.save(review);
+        storeRatingAggregator.reviewAdded(storeId, review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getId(), storeId, ChangeType.CREATED,
+                null, review.getRating(), review.getContent()));
 
-        return ReviewResponse.entityToDto(review);
+        return ReviewResponse.builder()
+                .id(review.getId())
+                .storeName(review.getStore().getName())
+                .userName(user.getName())
+                .content(review.getContent())
+                .rating(review.getRating())
+                .createdAt(review.getCreatedAt())
+                .build();
     }
 
     /**
      * 사용자가 작성한 리뷰를 수정하는 메서드입니다.
-     * 리뷰 작성자만 해당 리뷰를 수정할 수 있습니다.
+     * 리뷰 작성자만 해당 리뷰를 수정할 수 있으며, 평점이 바뀌면 상점 평점 집계도 함께 갱신됩니다.
      *
      * @param reviewId 수정할 리뷰의 ID
      * @param user 리뷰 작성자
      * @param content 수정할 내용
      * @param rating 수정할 평점
-     * @throws CustomException 리뷰가 존재하지 않거나, 사용자가 해당 리뷰의 작성자가 아닌 경우 예외 발생
+     * @throws CustomException 평점이 1~5 범위가 아니거나, 리뷰가 존재하지 않거나, 사용자가 해당 리뷰의 작성자가 아닌 경우 예외 발생
      */
     @Transactional
     public void updateReview(Long reviewId, User user, String content, Integer rating) {
+        StoreRatingAggregator.validateRating(rating);
+
         // 리뷰 존재 여부 확인
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new CustomException(REVIEW_NOT_FOUND));
@@ -89,12 +156,17 @@ public class ReviewService {
         }
 
         // 리뷰 내용 및 평점 수정
+        Long storeId = review.getStore().getId();
+        int previousRating = review.getRating();
         review.updateReview(content, rating);
+        storeRatingAggregator.ratingChanged(storeId, previousRating, rating);
+        eventPublisher.publishEvent(new ReviewChangedEvent(reviewId, storeId, ChangeType.UPDATED,
+                previousRating, rating, content));
     }
 
     /**
      * 사용자가 작성한 리뷰를 삭제하는 메서드입니다.
-     * 리뷰 작성자 또는 상점의 소유자만 해당 리뷰를 삭제할 수 있습니다.
+     * 리뷰 작성자 또는 상점의 소유자만 해당 리뷰를 삭제할 수 있으며, 상점 평점 집계에서도 제외됩니다.
      *
      * @param reviewId 삭제할 리뷰의 ID
      * @param user 리뷰를 삭제하려는 사용자
@@ -114,40 +186,153 @@ public class ReviewService {
             throw new CustomException(ACCESS_DENIED);
         }
 
-        // 리뷰 삭제
+        // 리뷰 삭제 및 평점 집계 반영
+        Long storeId = review.getStore().getId();
         reviewRepository.delete(review);
+        storeRatingAggregator.reviewRemoved(storeId, review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(reviewId, storeId, ChangeType.DELETED,
+                review.getRating(), null, null));
     }
 
     /**
-     * 특정 상점에 대한 모든 리뷰를 조회하는 메서드입니다.
+     * 특정 상점에 대한 리뷰를 조회하는 메서드입니다.
+     * 최신 작성순으로 정렬되며 커서 기반으로 페이지를 나누어 조회합니다.
+     * 상점 존재 여부는 먼저 호출하는 {@link #getVersionTag(Long)} 에서 확인하므로, 여기서는 리뷰만 조회합니다.
+     * 가장 많이 조회되는 첫 페이지(기본 크기, 필터 없음)는 조회 직전에 확인한 버전 태그와 함께 캐시되며,
+     * 캐시된 태그가 요청 직전에 확인한 버전과 다르면 다시 조회합니다.
+     * 같은 상점에 대한 동시 캐시 미스는 한 번의 조회로 합쳐집니다.
      *
      * @param storeId 조회할 상점의 ID
-     * @return 상점에 대한 리뷰 목록
-     * @throws CustomException 상점이 존재하지 않으면 예외 발생
+     * @param request 커서, 페이지 크기, 최소 평점 필터
+     * @param versionTag {@link #getVersionTag(Long)} 로 리뷰보다 먼저 확인한 버전 태그
+     * @return 상점에 대한 리뷰 목록 페이지
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외 발생
      */
-    public List<ReviewResponse> getReviewsByStore(Long storeId) {
-        // 상점 존재 여부 확인
-        Store store = storeRepository.findById(storeId)
+    public CursorPageResponse<ReviewResponse> getReviewsByStore(Long storeId, ReviewSearchRequest request,
+                                                                String versionTag) {
+        if (request.getCursor() == null && request.getMinRating() == null
+                && request.getSize() == ReviewSearchRequest.DEFAULT_SIZE) {
+            return firstPageCache.asMap().compute(storeId, (id, cached) ->
+                    cached != null && cached.getVersionTag().equals(versionTag) ? cached
+                            : new VersionedResponse<>(loadReviewsByStore(id, request), versionTag)).getBody();
+        }
+        return loadReviewsByStore(storeId, request);
+    }
+
+    /**
+     * 상점 수정 시각과 평점 집계 revision 만 조회하여 리뷰 목록의 버전 태그를 만듭니다.
+     * 리뷰 목록보다 먼저 읽으므로 태그가 본문보다 새로운 시점을 가리키지 않으며,
+     * 조건부 조회(ETag)에서 일치하면 리뷰 목록을 조회하지 않고 304 를 응답할 수 있습니다.
+     *
+     * @param storeId 조회할 상점의 ID
+     * @return 상점의 버전 태그
+     * @throws CustomException 상점이 존재하지 않는 경우 예외 발생
+     */
+    public String getVersionTag(Long storeId) {
+        return storeRepository.findVersionById(storeId)
+                .map(StoreVersion::toTag)
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+    }
+
+    private CursorPageResponse<ReviewResponse> loadReviewsByStore(Long storeId, ReviewSearchRequest request) {
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+        int size = pageSizeOf(request);
 
-        // 해당 상점의 모든 리뷰 조회
-        return reviewRepository.findByStoreId(store.getId()).stream()
-                .map(ReviewResponse::entityToDto)
-                .collect(Collectors.toList());
+        List<ReviewResponse> rows = reviewRepository.findPageByStoreId(
+                storeId, request.getMinRating(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+
+        return toPage(rows, size);
     }
 
     /**
-     * 특정 사용자가 작성한 모든 리뷰를 조회하는 메서드입니다.
+     * 특정 사용자가 작성한 리뷰를 조회하는 메서드입니다.
+     * 최신 작성순으로 정렬되며 커서 기반으로 페이지를 나누어 조회합니다.
      *
      * @param user 조회할 사용자의 정보
-     * @return 사용자가 작성한 리뷰 목록
+     * @param request 커서, 페이지 크기, 최소 평점 필터
+     * @return 사용자가 작성한 리뷰 목록 페이지
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외 발생
+     */
+    public CursorPageResponse<ReviewResponse> getReviewsByUser(User user, ReviewSearchRequest request) {
+        KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+        int size = pageSizeOf(request);
+
+        List<ReviewResponse> rows = reviewRepository.findPageByUserId(
+                user.getId(), request.getMinRating(),
+                cursor == null ? null : cursor.getTime(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, size + 1));
+
+        return toPage(rows, size);
+    }
+
+    /**
+     * 리뷰 내용을 검색어로 검색하는 메서드입니다.
+     * 메모리 역색인에서 검색어의 모든 글자 조합을 포함하는 리뷰를 관련도 순으로 찾고,
+     * 요청한 페이지의 리뷰만 DB 에서 ID 로 조회합니다.
+     *
+     * @param query 검색어
+     * @param storeId 상점 ID (선택, 없으면 전체 상점)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 100)
+     * @return 관련도 순 리뷰 목록 페이지
+     * @throws CustomException 검색어가 비어 있거나 너무 긴 경우 예외 발생
      */
-    public List<ReviewResponse> getReviewsByUser(User user) {
-        // 사용자가 작성한 모든 리뷰 조회
-        return reviewRepository.findByUserId(user.getId()).stream()
-                .map(ReviewResponse::entityToDto)
-                .collect(Collectors.toList());
+    public PageResponse<ReviewResponse> searchReviews(String query, Long storeId, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new CustomException(INVALID_REQUEST);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+
+        // 요청한 페이지까지의 상위 결과만 색인에서 가져옴
+        int limit = (int) Math.min((long) (pageNumber + 1) * pageSize, Integer.MAX_VALUE);
+        ReviewSearchIndex.SearchResult hits = reviewSearchIndex.search(query, storeId, limit);
+        List<Long> ranked = hits.reviewIds();
+        int from = (int) Math.min((long) pageNumber * pageSize, ranked.size());
+        List<Long> pageIds = ranked.subList(from, ranked.size());
+
+        // 관련도 순서를 유지하고, 색인 반영 전에 삭제된 리뷰는 제외
+        Map<Long, ReviewResponse> rows = pageIds.isEmpty() ? Map.of()
+                : reviewRepository.findResponsesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ReviewResponse::getId, Function.identity()));
+        List<ReviewResponse> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return PageResponse.<ReviewResponse>builder()
+                .content(content)
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(hits.total())
+                .hasNext(limit < hits.total())
+                .build();
     }
-}
 
+    /**
+     * 리뷰 변경이 커밋된 후 해당 상점의 캐시된 첫 페이지를 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        firstPageCache.invalidate(event.getStoreId());
+    }
 
+    /**
+     * 상점명 변경/상점 삭제가 커밋된 후 해당 상점의 캐시된 첫 페이지를 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        firstPageCache.invalidate(event.getStoreId());
+    }
+
+    private CursorPageResponse<ReviewResponse> toPage(List<ReviewResponse> rows, int size) {
+        return CursorPageResponse.of(rows, size,
+                last -> KeysetCursor.encode(last.getCreatedAt(), last.getId()));
+    }
+
+    private static int pageSizeOf(ReviewSearchRequest request) {
+        return Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE);
+    }
+}
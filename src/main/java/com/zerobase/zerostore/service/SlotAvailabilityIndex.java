@@ -0,0 +1,158 @@
+package com.zerobase.zerostore.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.dto.SlotAvailabilityResponse;
+import com.zerobase.zerostore.event.ReservationSlotChangedEvent;
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.ReservationRepository;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.type.ReservationStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.zerobase.zerostore.type.ErrorCode.STORE_NOT_FOUND;
+
+/**
+ * 상점/일자별 예약 가능 시간대를 비트맵으로 보관하는 인메모리 인덱스입니다.
+ * - 하루를 30분 단위 48개 시간대로 나누고, 정원이 가득 찬 시간대를 long 비트맵으로 표시합니다.
+ * - 캐시에 없는 일자는 예약 테이블에서 해당 일자의 시간대별 예약 수만 집계해 다시 만듭니다.
+ * - 예약 생성/거절 이벤트를 받아 커밋 이후 증분 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotAvailabilityIndex {
+
+    public static final int SLOTS_PER_DAY = 48;
+    private static final int SLOT_MINUTES = 30;
+
+    private final StoreRepository storeRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotCapacityManager reservationSlotCapacityManager;
+
+    @Value("${reservation.availability.cache-max-size:20000}")
+    private long cacheMaxSize;
+
+    // 다른 노드에서 발생한 변경을 반영하기 위한 최대 보관 시간
+    @Value("${reservation.availability.cache-ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    private Cache<DayKey, DaySlots> days;
+
+    @PostConstruct
+    void init() {
+        this.days = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 특정 상점의 일자별 예약 가능 시간대를 조회합니다.
+     * 오늘 날짜의 경우 이미 지난 시간대는 제외합니다.
+     *
+     * @param storeId 상점 ID
+     * @param date 조회할 일자
+     * @return 예약 가능한 시간대 목록
+     * @throws CustomException 상점이 존재하지 않으면 예외 발생
+     */
+    public SlotAvailabilityResponse getAvailability(Long storeId, LocalDate date) {
+        DaySlots slots = days.get(new DayKey(storeId, date), this::load);
+        long fullMask = slots.fullMask();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> availableSlots = new ArrayList<>();
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            if ((fullMask & (1L << slot)) != 0) {
+                continue;
+            }
+            LocalDateTime slotTime = date.atStartOfDay().plusMinutes((long) slot * SLOT_MINUTES);
+            if (slotTime.isBefore(now)) {
+                continue;
+            }
+            availableSlots.add(slotTime.toLocalTime().toString());
+        }
+
+        return SlotAvailabilityResponse.builder()
+                .storeId(storeId)
+                .date(date)
+                .slotCapacity(slots.capacity)
+                .availableSlots(availableSlots)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationSlotChanged(ReservationSlotChangedEvent event) {
+        LocalDateTime reservationTime = event.getReservationTime();
+        DaySlots slots = days.getIfPresent(new DayKey(event.getStoreId(), reservationTime.toLocalDate()));
+        if (slots != null) {
+            slots.add(slotOf(reservationTime.toLocalTime()), event.getDelta());
+        }
+    }
+
+    // 정원이 바뀔 수 있으므로 상점 변경 시 해당 상점의 비트맵을 모두 제거 (새로 등록된 상점은 캐시된 비트맵이 없음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (event.getType() == StoreChangedEvent.ChangeType.REGISTERED) {
+            return;
+        }
+        days.asMap().keySet().removeIf(key -> key.storeId().equals(event.getStoreId()));
+    }
+
+    private DaySlots load(DayKey key) {
+        Store store = storeRepository.findById(key.storeId())
+                .orElseThrow(() -> new CustomException(STORE_NOT_FOUND));
+
+        DaySlots slots = new DaySlots(reservationSlotCapacityManager.capacityOf(store));
+        LocalDateTime start = key.date().atStartOfDay();
+        for (Object[] row : reservationRepository.countByStoreIdAndTimeRange(
+                key.storeId(), start, start.plusDays(1), ReservationStatus.REJECTED)) {
+            LocalDateTime reservationTime = (LocalDateTime) row[0];
+            slots.add(slotOf(reservationTime.toLocalTime()), ((Number) row[1]).intValue());
+        }
+        return slots;
+    }
+
+    private static int slotOf(LocalTime time) {
+        return time.getHour() * 2 + time.getMinute() / SLOT_MINUTES;
+    }
+
+    private record DayKey(Long storeId, LocalDate date) {
+    }
+
+    /**
+     * 하루 48개 시간대의 예약 수와 마감 비트맵을 보관합니다.
+     */
+    private static class DaySlots {
+        private final int capacity;
+        private final int[] reservedCounts = new int[SLOTS_PER_DAY];
+        private volatile long fullMask;
+
+        DaySlots(int capacity) {
+            this.capacity = capacity;
+        }
+
+        long fullMask() {
+            return fullMask;
+        }
+
+        synchronized void add(int slot, int delta) {
+            int count = Math.max(reservedCounts[slot] + delta, 0);
+            reservedCounts[slot] = count;
+            fullMask = count >= capacity ? fullMask | (1L << slot) : fullMask & ~(1L << slot);
+        }
+    }
+}
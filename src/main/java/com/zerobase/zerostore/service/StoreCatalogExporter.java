@@ -0,0 +1,153 @@
+package com.zerobase.zerostore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zerostore.domain.StoreRating;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.StoreRatingResponse;
+import com.zerobase.zerostore.dto.StoreResponse;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.exception.ServiceUnavailableException;
+import com.zerobase.zerostore.type.Role;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+
+import static com.zerobase.zerostore.type.ErrorCode.INVALID_ROLE;
+import static com.zerobase.zerostore.type.ErrorCode.STORE_EXPORT_BUSY;
+
+/**
+ * 전체 상점 목록을 NDJSON(한 줄에 상점 하나)으로 내보냅니다.
+ * 전방향 JDBC 커서로 한 행씩 읽어 바로 쓰므로, 상점 수와 관계없이 메모리 사용량이 일정합니다.
+ * 내보내기는 전체 테이블을 읽으며 DB 연결을 오래 점유하므로, PARTNER 사용자만 요청할 수 있고 동시 실행 수를 제한합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreCatalogExporter {
+
+    private static final String EXPORT_SQL = "SELECT s.id, s.name, s.location, s.description, s.slot_capacity, s.latitude, s.longitude, " +
+            "r.review_count, r.rating_sum, r.star1, r.star2, r.star3, r.star4, r.star5 " +
+            "FROM store s LEFT JOIN store_rating r ON r.store_id = s.id " +
+            "ORDER BY s.id";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 전송
+    @Value("${store.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+
+    @Value("${store.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${store.export.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    private JdbcTemplate streamingJdbcTemplate;
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 요청자 권한과 동시 실행 수를 확인한 뒤, 전체 상점을 응답에 쓰는 본문을 반환합니다.
+     * 실행 허가는 본문을 모두 쓰거나 실패했을 때 반환됩니다.
+     *
+     * @param requester 요청한 사용자
+     * @return 상점 정보 NDJSON 응답 본문
+     * @throws CustomException PARTNER 사용자가 아닌 경우
+     * @throws ServiceUnavailableException 이미 최대 개수의 내보내기가 실행 중인 경우
+     */
+    public StreamingResponseBody open(User requester) {
+        if (requester.getRole() != Role.PARTNER) {
+            throw new CustomException(INVALID_ROLE);
+        }
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException(STORE_EXPORT_BUSY, retryAfterSeconds);
+        }
+        return out -> {
+            try {
+                export(out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * 전체 상점을 ID 순으로 출력 스트림에 씁니다.
+     *
+     * @param out 응답 출력 스트림
+     */
+    void export(OutputStream out) {
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        long startedAt = System.nanoTime();
+        long[] rows = {0};
+
+        streamingJdbcTemplate.query(EXPORT_SQL, resultSet -> {
+            try {
+                buffered.write(objectMapper.writeValueAsBytes(toResponse(resultSet)));
+                buffered.write('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        try {
+            buffered.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("상점 목록 내보내기 완료 - {}건, {}ms", rows[0], (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static StoreResponse toResponse(ResultSet rs) throws SQLException {
+        long reviewCount = rs.getLong("review_count");
+        StoreRating rating = rs.wasNull() ? null : StoreRating.builder()
+                .storeId(rs.getLong("id"))
+                .reviewCount(reviewCount)
+                .ratingSum(rs.getLong("rating_sum"))
+                .star1(rs.getLong("star1"))
+                .star2(rs.getLong("star2"))
+                .star3(rs.getLong("star3"))
+                .star4(rs.getLong("star4"))
+                .star5(rs.getLong("star5"))
+                .build();
+        int slotCapacity = rs.getInt("slot_capacity");
+        Integer capacity = rs.wasNull() ? null : slotCapacity;
+        double latitude = rs.getDouble("latitude");
+        Double lat = rs.wasNull() ? null : latitude;
+        double longitude = rs.getDouble("longitude");
+        Double lng = rs.wasNull() ? null : longitude;
+
+        return StoreResponse.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .location(rs.getString("location"))
+                .description(rs.getString("description"))
+                .slotCapacity(capacity)
+                .latitude(lat)
+                .longitude(lng)
+                .rating(StoreRatingResponse.of(rating))
+                .build();
+    }
+
+}
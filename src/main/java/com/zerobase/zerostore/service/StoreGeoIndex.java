@@ -0,0 +1,263 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.dto.NearbyStoreResponse;
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 좌표가 등록된 상점을 위경도 격자에 나누어 보관하는 인메모리 공간 인덱스입니다.
+ * - 조회는 반경을 덮는 격자 칸의 상점만 거리 계산하므로 DB 를 조회하지 않습니다.
+ *   반경 안의 상점은 크기 limit 의 최대 힙으로 가까운 상점만 남기므로, 후보 전체를 정렬하지 않습니다.
+ * - 기동 시 좌표가 있는 상점을 스트리밍으로 읽어 구성하고, 상점 변경 이벤트에 담긴 좌표로 커밋 이후 증분 갱신합니다.
+ *   재구성 중 발생한 변경은 교체 직전 잠금 안에서 새 격자에 다시 적용하므로, 이후의 변경보다 늦게 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_RADIUS_METERS = 20_000;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+    // 격자 한 칸의 크기 (위도 기준 약 1.1km)
+    private static final double CELL_DEGREES = 0.01;
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    // 거리 오름차순, 같으면 상점 ID 오름차순
+    private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(Candidate::distance)
+            .thenComparingLong(candidate -> candidate.store().storeId());
+
+    private final StoreRepository storeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 재구성 시 새 격자로 통째로 교체
+    private volatile Grid grid = new Grid();
+
+    // 재구성 중에 발생한 변경 (재구성 중이 아니면 null)
+    private List<StoreChangedEvent> changesDuringRebuild;
+
+    /**
+     * 기준 좌표에서 반경 안에 있는 상점을 가까운 순으로 조회합니다.
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusMeters 검색 반경 (미터, 최대 20km)
+     * @param limit 조회할 상점 수 (최대 100)
+     * @return 거리순 상점 목록
+     * @throws CustomException 좌표가 범위를 벗어난 경우
+     */
+    public List<NearbyStoreResponse> findNearby(double latitude, double longitude, int radiusMeters, int limit) {
+        validateCoordinate(latitude, longitude);
+        int radius = Math.min(Math.max(radiusMeters, 1), MAX_RADIUS_METERS);
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        Grid current = grid;
+        // 지금까지 가장 가까운 size 개 (루트가 그중 가장 먼 상점)
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(size + 1, NEAREST_FIRST.reversed());
+        double latSpan = radius / METERS_PER_DEGREE;
+        // 고위도에서는 경도 1도의 거리가 짧아지므로 경도 방향 범위를 넓힘 (극 근처는 전체 경도)
+        double cosLat = Math.cos(Math.toRadians(Math.min(Math.abs(latitude) + latSpan, 90)));
+        double lngSpan = cosLat < 1e-6 ? 180 : Math.min(radius / (METERS_PER_DEGREE * cosLat), 180);
+
+        int minLatCell = latCell(Math.max(latitude - latSpan, -90));
+        int maxLatCell = latCell(Math.min(latitude + latSpan, 90));
+        int minLngCell = lngCell(longitude - lngSpan);
+        int lngCellCount = Math.min(lngCell(longitude + lngSpan) - minLngCell, LNG_CELLS - 1) + 1;
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int i = 0; i < lngCellCount; i++) {
+                Set<GeoStore> cell = current.cells.get(cellKey(latCell, Math.floorMod(minLngCell + i, LNG_CELLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (GeoStore store : cell) {
+                    double distance = distanceMeters(latitude, longitude, store.latitude(), store.longitude());
+                    if (distance > radius) {
+                        continue;
+                    }
+                    if (nearest.size() < size) {
+                        nearest.add(new Candidate(store, distance));
+                    } else if (closer(distance, store.storeId(), nearest.peek())) {
+                        nearest.poll();
+                        nearest.add(new Candidate(store, distance));
+                    }
+                }
+            }
+        }
+
+        List<Candidate> candidates = new ArrayList<>(nearest);
+        candidates.sort(NEAREST_FIRST);
+        return candidates.stream()
+                .map(Candidate::toResponse)
+                .toList();
+    }
+
+    // 힙에서 가장 먼 상점보다 가까운지 (객체를 만들기 전에 비교)
+    private static boolean closer(double distance, long storeId, Candidate farthest) {
+        int compared = Double.compare(distance, farthest.distance());
+        return compared < 0 || (compared == 0 && storeId < farthest.store().storeId());
+    }
+
+    /**
+     * 위경도가 둘 다 없거나, 둘 다 유효한 범위인지 확인합니다.
+     *
+     * @throws CustomException 한쪽만 입력되었거나 범위를 벗어난 경우
+     */
+    public static void validateCoordinate(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180
+                || latitude.isNaN() || longitude.isNaN()) {
+            throw new CustomException(ErrorCode.INVALID_COORDINATE);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        long startedAt = System.nanoTime();
+        Grid rebuilt = new Grid();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = storeRepository.streamAllWithCoordinates()) {
+                rows.forEach(row -> rebuilt.put(new GeoStore((Long) row[0], (String) row[1], (String) row[2],
+                        (Double) row[3], (Double) row[4])));
+            }
+        });
+
+        // 재구성 중 발생한 변경을 교체 전에 새 격자에 순서대로 다시 적용 (그 사이 새 변경은 잠금으로 대기)
+        synchronized (this) {
+            changesDuringRebuild.forEach(event -> apply(rebuilt, event));
+            changesDuringRebuild = null;
+            grid = rebuilt;
+        }
+        log.info("상점 위치 인덱스 구성 완료 - {}건, {}ms",
+                rebuilt.stores.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStoreChanged(StoreChangedEvent event) {
+        apply(grid, event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    // 이벤트에 담긴 좌표로 다시 등록하므로 상점을 다시 조회하지 않음 (삭제되었거나 좌표가 없으면 제거)
+    private static void apply(Grid target, StoreChangedEvent event) {
+        if (event.getType() == StoreChangedEvent.ChangeType.DELETED) {
+            target.remove(event.getStoreId());
+        } else {
+            put(target, event.getStoreId(), event.getName(), event.getLocation(), event.getLatitude(), event.getLongitude());
+        }
+    }
+
+    void put(Store store) {
+        put(grid, store.getId(), store.getName(), store.getLocation(), store.getLatitude(), store.getLongitude());
+    }
+
+    private static void put(Grid target, Long storeId, String name, String location, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            target.remove(storeId);
+            return;
+        }
+        target.put(new GeoStore(storeId, name, location, latitude, longitude));
+    }
+
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int latCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int lngCell(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return (long) latCell * LNG_CELLS + lngCell;
+    }
+
+    private static long cellKeyOf(GeoStore store) {
+        return cellKey(latCell(store.latitude()), Math.floorMod(lngCell(store.longitude()), LNG_CELLS));
+    }
+
+    private record GeoStore(long storeId, String name, String location, double latitude, double longitude) {
+    }
+
+    private record Candidate(GeoStore store, double distance) {
+        NearbyStoreResponse toResponse() {
+            return NearbyStoreResponse.builder()
+                    .storeId(store.storeId())
+                    .storeName(store.name())
+                    .location(store.location())
+                    .latitude(store.latitude())
+                    .longitude(store.longitude())
+                    .distanceMeters(Math.round(distance))
+                    .build();
+        }
+    }
+
+    private static class Grid {
+        // 격자 칸 → 칸 안의 상점
+        private final Map<Long, Set<GeoStore>> cells = new ConcurrentHashMap<>();
+        // 상점 ID → 상점 (이동/삭제용)
+        private final Map<Long, GeoStore> stores = new ConcurrentHashMap<>();
+
+        synchronized void put(GeoStore store) {
+            remove(store.storeId());
+            stores.put(store.storeId(), store);
+            cells.computeIfAbsent(cellKeyOf(store), key -> ConcurrentHashMap.newKeySet()).add(store);
+        }
+
+        synchronized void remove(Long storeId) {
+            GeoStore previous = stores.remove(storeId);
+            if (previous == null) {
+                return;
+            }
+            long key = cellKeyOf(previous);
+            Set<GeoStore> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(previous);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.zerobase.zerostore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zerostore.dto.StoreRequest;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.type.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 상점 일괄 등록 파일을 한 행씩 읽습니다.
+ * 전체 파일을 메모리에 올리지 않고, 호출할 때마다 다음 행만 읽어 {@link StoreRequest} 로 변환합니다.
+ * - CSV: 첫 행은 헤더이며 name, location, description 은 필수, slotCapacity, latitude, longitude 는 선택입니다.
+ *   큰따옴표로 감싼 값 안에는 쉼표/줄바꿈을 쓸 수 있고, 큰따옴표는 두 번 써서 나타냅니다.
+ * - NDJSON: 한 줄에 상점 등록 요청 JSON 하나이며, 빈 줄은 건너뜁니다.
+ */
+abstract class StoreImportReader {
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 읽은 행 (파일 끝이면 null)
+     */
+    abstract Row next();
+
+    static StoreImportReader csv(Reader reader) {
+        return new CsvReader(new BufferedReader(reader));
+    }
+
+    static StoreImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonReader(new BufferedReader(reader), objectMapper);
+    }
+
+    /**
+     * 읽은 행입니다. 변환에 실패하면 request 는 null 이고 error 에 사유가 담깁니다.
+     */
+    record Row(int number, StoreRequest request, String name, String error) {
+
+        static Row of(int number, StoreRequest request) {
+            return new Row(number, request, request.getName(), null);
+        }
+
+        static Row invalid(int number, String name, String error) {
+            return new Row(number, null, name, error);
+        }
+    }
+
+    private static class CsvReader extends StoreImportReader {
+        private static final List<String> REQUIRED = List.of("name", "location", "description");
+
+        private final BufferedReader reader;
+        private Map<String, Integer> columns;
+        private int rowNumber;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        Row next() {
+            if (columns == null) {
+                readHeader();
+            }
+            List<String> record = readRecord();
+            while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+                record = readRecord(); // 빈 줄은 건너뜀
+            }
+            if (record == null) {
+                return null;
+            }
+
+            int number = ++rowNumber;
+            String name = value(record, "name");
+            try {
+                return Row.of(number, new StoreRequest(
+                        name,
+                        value(record, "location"),
+                        value(record, "description"),
+                        parse(value(record, "slotcapacity"), Integer::valueOf),
+                        parse(value(record, "latitude"), Double::valueOf),
+                        parse(value(record, "longitude"), Double::valueOf)));
+            } catch (NumberFormatException e) {
+                return Row.invalid(number, name, "숫자 형식이 올바르지 않습니다.");
+            }
+        }
+
+        private void readHeader() {
+            List<String> header = readRecord();
+            if (header == null) {
+                header = List.of();
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                // BOM 과 대소문자/공백 차이는 무시
+                columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : REQUIRED) {
+                if (!columns.containsKey(column)) {
+                    throw new CustomException(ErrorCode.INVALID_IMPORT_HEADER);
+                }
+            }
+        }
+
+        private String value(List<String> record, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        // RFC 4180 형식의 레코드 하나를 읽음 (파일 끝이면 null)
+        private List<String> readRecord() {
+            try {
+                int c = reader.read();
+                if (c == -1) {
+                    return null;
+                }
+                List<String> fields = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                while (c != -1) {
+                    if (quoted) {
+                        if (c == '"') {
+                            reader.mark(1);
+                            int following = reader.read();
+                            if (following == '"') {
+                                field.append('"');
+                            } else {
+                                quoted = false;
+                                reader.reset();
+                            }
+                        } else {
+                            field.append((char) c);
+                        }
+                    } else if (c == '"' && field.isEmpty()) {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else if (c == '\n') {
+                        break;
+                    } else if (c != '\r') {
+                        field.append((char) c);
+                    }
+                    c = reader.read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static class NdjsonReader extends StoreImportReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private int rowNumber;
+
+        NdjsonReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() {
+            try {
+                String line = reader.readLine();
+                while (line != null && line.isBlank()) {
+                    line = reader.readLine();
+                }
+                if (line == null) {
+                    return null;
+                }
+
+                int number = ++rowNumber;
+                try {
+                    return Row.of(number, objectMapper.readValue(line, StoreRequest.class));
+                } catch (IOException e) {
+                    return Row.invalid(number, null, "JSON 형식이 올바르지 않습니다.");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+}
@@ -0,0 +1,212 @@
+package com.zerobase.zerostore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.StoreRating;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.StoreImportResponse;
+import com.zerobase.zerostore.dto.StoreImportResponse.RowResult;
+import com.zerobase.zerostore.dto.StoreImportResponse.Status;
+import com.zerobase.zerostore.dto.StoreRequest;
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.event.StoreChangedEvent.ChangeType;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.type.ErrorCode;
+import com.zerobase.zerostore.type.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파트너의 상점 여러 개를 CSV 또는 NDJSON 파일 하나로 등록합니다.
+ * - 파일은 한 행씩 읽으며, 소유자 확인과 기존 상호명 조회는 요청당 한 번만 수행합니다.
+ * - 검증을 통과한 행은 일정 개수씩 모아 별도 트랜잭션으로 저장하므로, 한 묶음의 실패가 다른 묶음에 영향을 주지 않습니다.
+ * - 저장된 상점은 묶음이 커밋된 후 상점 등록 이벤트로 각 인덱스/캐시에 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreImportService {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${store.import.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${store.import.max-rows:5000}")
+    private int maxRows;
+
+    /**
+     * 파일의 각 행을 상점으로 등록하고 행별 결과를 반환합니다.
+     *
+     * @param ownerId 등록할 파트너 사용자의 ID
+     * @param contentType 파일 형식 (text/csv 또는 application/x-ndjson)
+     * @param body 파일 내용
+     * @return 행별 등록 결과
+     * @throws CustomException 사용자가 없거나, 파트너가 아니거나, 형식이 지원되지 않거나, CSV 헤더가 올바르지 않은 경우
+     */
+    public StoreImportResponse importStores(Long ownerId, MediaType contentType, InputStream body) {
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (owner.getRole() != Role.PARTNER) {
+            throw new CustomException(ErrorCode.INVALID_ROLE);
+        }
+        StoreImportReader reader = readerFor(contentType, body);
+
+        long startedAt = System.nanoTime();
+        // 이미 등록된 상호명과 파일 안에서 앞서 나온 상호명
+        Set<String> names = new HashSet<>(storeRepository.findNamesByOwnerId(ownerId));
+        List<RowResult> results = new ArrayList<>();
+        List<StoreImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        int totalRows = 0;
+        boolean truncated = false;
+
+        StoreImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            if (totalRows >= maxRows) {
+                truncated = true;
+                break;
+            }
+            totalRows++;
+
+            RowResult rejected = validate(row, names);
+            if (rejected != null) {
+                results.add(rejected);
+                continue;
+            }
+            names.add(row.name());
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                results.addAll(saveChunk(ownerId, chunk, names));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(saveChunk(ownerId, chunk, names));
+        }
+
+        results.sort(Comparator.comparingInt(RowResult::getRow));
+        int created = (int) results.stream().filter(result -> result.getStatus() == Status.CREATED).count();
+        log.info("상점 일괄 등록 완료 - 소유자: {}, {}행 중 {}건 등록, {}ms",
+                ownerId, totalRows, created, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        return StoreImportResponse.builder()
+                .totalRows(totalRows)
+                .createdCount(created)
+                .failedCount(totalRows - created)
+                .truncated(truncated)
+                .results(results)
+                .build();
+    }
+
+    private StoreImportReader readerFor(MediaType contentType, InputStream body) {
+        InputStreamReader input = new InputStreamReader(body, StandardCharsets.UTF_8);
+        if (contentType != null && TEXT_CSV.includes(contentType)) {
+            return StoreImportReader.csv(input);
+        }
+        if (contentType != null && APPLICATION_NDJSON.includes(contentType)) {
+            return StoreImportReader.ndjson(input, objectMapper);
+        }
+        throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
+    // 등록할 수 없는 행이면 결과를, 등록할 수 있으면 null 을 반환
+    private RowResult validate(StoreImportReader.Row row, Set<String> names) {
+        if (row.error() != null) {
+            return RowResult.failed(row.number(), row.name(), Status.INVALID, row.error());
+        }
+        Set<ConstraintViolation<StoreRequest>> violations = validator.validate(row.request());
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .findFirst()
+                    .orElse(null);
+            return RowResult.failed(row.number(), row.name(), Status.INVALID, message);
+        }
+        try {
+            StoreGeoIndex.validateCoordinate(row.request().getLatitude(), row.request().getLongitude());
+        } catch (CustomException e) {
+            return RowResult.failed(row.number(), row.name(), Status.INVALID, e.getErrorMessage());
+        }
+        if (names.contains(row.name())) {
+            return RowResult.failed(row.number(), row.name(), Status.DUPLICATE,
+                    ErrorCode.DUPLICATE_STORE_NAME.getDescription());
+        }
+        return null;
+    }
+
+    // 한 묶음을 하나의 트랜잭션에서 JDBC 배치로 저장 (실패하면 묶음 전체를 실패로 기록)
+    private List<RowResult> saveChunk(Long ownerId, List<StoreImportReader.Row> rows, Set<String> names) {
+        try {
+            List<RowResult> saved = transactionTemplate.execute(status -> {
+                User owner = userRepository.getReferenceById(ownerId);
+                List<Store> stores = rows.stream()
+                        .map(row -> toStore(row.request(), owner))
+                        .toList();
+                storeRepository.saveAll(stores);
+                stores.forEach(store -> entityManager.persist(StoreRating.builder().storeId(store.getId()).build()));
+                entityManager.flush();
+                entityManager.clear();
+
+                List<RowResult> created = new ArrayList<>(rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    Long storeId = stores.get(i).getId();
+                    eventPublisher.publishEvent(StoreChangedEvent.of(stores.get(i), ChangeType.REGISTERED));
+                    created.add(new RowResult(rows.get(i).number(), rows.get(i).name(), Status.CREATED, storeId, null));
+                }
+                return created;
+            });
+            return saved == null ? List.of() : saved;
+        } catch (RuntimeException e) {
+            log.warn("상점 일괄 등록 묶음 저장 실패 - 소유자: {}, {}행", ownerId, rows.size(), e);
+            List<RowResult> failed = new ArrayList<>(rows.size());
+            for (StoreImportReader.Row row : rows) {
+                names.remove(row.name());
+                failed.add(RowResult.failed(row.number(), row.name(), Status.FAILED,
+                        ErrorCode.INTERNAL_SERVER_ERROR.getDescription()));
+            }
+            return failed;
+        }
+    }
+
+    private static Store toStore(StoreRequest request, User owner) {
+        return Store.builder()
+                .name(request.getName())
+                .location(request.getLocation())
+                .description(request.getDescription())
+                .slotCapacity(request.getSlotCapacity())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .owner(owner)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.domain.StoreRating;
+import com.zerobase.zerostore.dto.StoreRankingResponse;
+import com.zerobase.zerostore.event.ReservationSlotChangedEvent;
+import com.zerobase.zerostore.event.ReviewChangedEvent;
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.repository.ReservationRepository;
+import com.zerobase.zerostore.repository.StoreRatingRepository;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.type.ReservationStatus;
+import com.zerobase.zerostore.type.StoreRankingType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * 평점/예약 수 기준 상점 순위를 정렬된 상태로 보관하는 인메모리 인덱스입니다.
+ * - 조회는 정렬된 집합의 앞에서부터 limit 개만 읽으므로 DB 를 조회하지 않습니다.
+ * - 리뷰/예약/상점 변경 이벤트를 받아 커밋 이후 증분 갱신합니다.
+ * - 이벤트로 반영되지 않는 변경(만료 처리, 다른 노드의 쓰기 등)은 주기적인 전체 재구성으로 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRankingIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final Comparator<StoreScore> BY_RATING = Comparator
+            .comparingDouble(StoreScore::averageRating).reversed()
+            .thenComparing(Comparator.comparingLong(StoreScore::reviewCount).reversed())
+            .thenComparingLong(StoreScore::storeId);
+
+    private static final Comparator<StoreScore> BY_RESERVATIONS = Comparator
+            .comparingLong(StoreScore::reservationCount).reversed()
+            .thenComparingLong(StoreScore::storeId);
+
+    private final StoreRepository storeRepository;
+    private final StoreRatingRepository storeRatingRepository;
+    private final ReservationRepository reservationRepository;
+
+    // 재구성 시 새 보드로 통째로 교체
+    private volatile Board board = new Board();
+
+    /**
+     * 기준별 상위 상점 목록을 조회합니다.
+     * 리뷰(또는 예약)가 없는 상점은 순위에 포함되지 않습니다.
+     *
+     * @param type 순위 기준
+     * @param limit 조회할 상점 수 (최대 100)
+     * @return 순위순 상점 목록
+     */
+    public List<StoreRankingResponse> getRanking(StoreRankingType type, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        NavigableSet<StoreScore> ordered = type == StoreRankingType.RATING ? board.byRating : board.byReservations;
+
+        List<StoreRankingResponse> ranking = new ArrayList<>(size);
+        for (StoreScore score : ordered) {
+            long value = type == StoreRankingType.RATING ? score.reviewCount() : score.reservationCount();
+            if (ranking.size() >= size || value <= 0) {
+                break;
+            }
+            ranking.add(score.toResponse(ranking.size() + 1));
+        }
+        return ranking;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        int countDelta = switch (event.getType()) {
+            case CREATED -> 1;
+            case DELETED -> -1;
+            case UPDATED -> 0;
+        };
+        int sumDelta = (event.getRating() == null ? 0 : event.getRating())
+                - (event.getPreviousRating() == null ? 0 : event.getPreviousRating());
+        board.update(event.getStoreId(), score -> score.withRating(countDelta, sumDelta));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationSlotChanged(ReservationSlotChangedEvent event) {
+        board.update(event.getStoreId(), score -> score.withReservations(event.getDelta()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        switch (event.getType()) {
+            case REGISTERED -> board.put(new StoreScore(event.getStoreId(), event.getName(), 0, 0, 0));
+            case UPDATED -> board.update(event.getStoreId(), score -> score.withName(event.getName()));
+            case DELETED -> board.remove(event.getStoreId());
+        }
+    }
+
+    /**
+     * DB 의 상점, 평점 집계, 예약 수로 순위를 다시 만들어 교체합니다.
+     * 기동 직후 한 번 실행되어 초기 순위를 채웁니다.
+     */
+    @Scheduled(fixedDelayString = "${store.ranking.reconcile-interval-millis:300000}")
+    public void reconcile() {
+        long startedAt = System.nanoTime();
+
+        Map<Long, StoreRating> ratings = new HashMap<>();
+        for (StoreRating rating : storeRatingRepository.findAll()) {
+            ratings.put(rating.getStoreId(), rating);
+        }
+        Map<Long, Long> reservations = new HashMap<>();
+        for (Object[] row : reservationRepository.countByStoreExcludingStatus(ReservationStatus.REJECTED)) {
+            reservations.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        Board rebuilt = new Board();
+        for (Object[] row : storeRepository.findAllIdAndName()) {
+            Long storeId = (Long) row[0];
+            StoreRating rating = ratings.get(storeId);
+            rebuilt.put(new StoreScore(storeId, (String) row[1],
+                    rating == null ? 0 : rating.getReviewCount(),
+                    rating == null ? 0 : rating.getRatingSum(),
+                    reservations.getOrDefault(storeId, 0L)));
+        }
+        this.board = rebuilt;
+
+        log.debug("상점 순위 재구성 완료 - {}개 상점, {}ms",
+                rebuilt.scores.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 상점별 점수와 기준별 정렬 집합입니다.
+     * 쓰기는 직렬화하고, 읽기는 잠금 없이 정렬 집합을 순회합니다.
+     */
+    private static class Board {
+        private final Map<Long, StoreScore> scores = new ConcurrentHashMap<>();
+        private final NavigableSet<StoreScore> byRating = new ConcurrentSkipListSet<>(BY_RATING);
+        private final NavigableSet<StoreScore> byReservations = new ConcurrentSkipListSet<>(BY_RESERVATIONS);
+
+        synchronized void put(StoreScore score) {
+            StoreScore previous = scores.put(score.storeId(), score);
+            if (previous != null) {
+                byRating.remove(previous);
+                byReservations.remove(previous);
+            }
+            byRating.add(score);
+            byReservations.add(score);
+        }
+
+        synchronized void update(Long storeId, UnaryOperator<StoreScore> change) {
+            StoreScore previous = scores.get(storeId);
+            if (previous != null) {
+                put(change.apply(previous));
+            }
+        }
+
+        synchronized void remove(Long storeId) {
+            StoreScore previous = scores.remove(storeId);
+            if (previous != null) {
+                byRating.remove(previous);
+                byReservations.remove(previous);
+            }
+        }
+    }
+
+    private record StoreScore(Long storeId, String name, long reviewCount, long ratingSum, long reservationCount) {
+
+        double averageRating() {
+            return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+        }
+
+        StoreScore withRating(int countDelta, int sumDelta) {
+            return new StoreScore(storeId, name, Math.max(reviewCount + countDelta, 0),
+                    Math.max(ratingSum + sumDelta, 0), reservationCount);
+        }
+
+        StoreScore withReservations(int delta) {
+            return new StoreScore(storeId, name, reviewCount, ratingSum, Math.max(reservationCount + delta, 0));
+        }
+
+        StoreScore withName(String newName) {
+            return new StoreScore(storeId, newName, reviewCount, ratingSum, reservationCount);
+        }
+
+        StoreRankingResponse toResponse(int rank) {
+            return StoreRankingResponse.builder()
+                    .rank(rank)
+                    .storeId(storeId)
+                    .storeName(name)
+                    .averageRating(Math.round(averageRating() * 10.0) / 10.0)
+                    .reviewCount(reviewCount)
+                    .reservationCount(reservationCount)
+                    .build();
+        }
+    }
+}
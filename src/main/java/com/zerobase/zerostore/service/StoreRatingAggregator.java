@@ -0,0 +1,58 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.StoreRatingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.zerobase.zerostore.type.ErrorCode.INVALID_RATING;
+
+/**
+ * 리뷰 변경에 맞춰 상점 평점 집계를 증감합니다.
+ * - 호출한 서비스의 트랜잭션 안에서만 실행되므로, 리뷰 변경과 집계 갱신이 함께 커밋되거나 롤백됩니다.
+ * - 집계 행은 상점 등록 시(기존 상점은 기동 시 백필로) 만들어지므로, 여기서는 증감 UPDATE 만 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreRatingAggregator {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    private final StoreRatingRepository storeRatingRepository;
+
+    public static void validateRating(Integer rating) {
+        if (rating == null || rating < MIN_RATING || rating > MAX_RATING) {
+            throw new CustomException(INVALID_RATING);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewAdded(Long storeId, int rating) {
+        apply(storeId, 1, rating, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewRemoved(Long storeId, int rating) {
+        apply(storeId, -1, rating, -1);
+    }
+
+    // 평점이 같아도 revision 은 증가시켜 리뷰 내용 변경을 알 수 있도록 함
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ratingChanged(Long storeId, int oldRating, int newRating) {
+        long[] stars = new long[MAX_RATING + 1];
+        stars[oldRating] -= 1;
+        stars[newRating] += 1;
+        storeRatingRepository.applyDelta(storeId, 0, newRating - oldRating,
+                stars[1], stars[2], stars[3], stars[4], stars[5]);
+    }
+
+    private void apply(Long storeId, int countDelta, int rating, int starDelta) {
+        long[] stars = new long[MAX_RATING + 1];
+        stars[rating] = starDelta;
+        storeRatingRepository.applyDelta(storeId, countDelta, (long) countDelta * rating,
+                stars[1], stars[2], stars[3], stars[4], stars[5]);
+    }
+}
@@ -1,28 +1,81 @@
 package com.zerobase.zerostore.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.StoreRating;
 import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.CursorPageResponse;
+import com.zerobase.zerostore.dto.IdCursor;
+import com.zerobase.zerostore.dto.PageResponse;
+import com.zerobase.zerostore.dto.StorePatchRequest;
 import com.zerobase.zerostore.dto.StoreRequest;
 import com.zerobase.zerostore.dto.StoreResponse;
 import com.zerobase.zerostore.dto.StoreUpdateRequest;
+import com.zerobase.zerostore.dto.StoreVersion;
+import com.zerobase.zerostore.dto.VersionedResponse;
+import com.zerobase.zerostore.event.ReviewChangedEvent;
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.event.StoreChangedEvent.ChangeType;
 import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.StoreRatingRepository;
 import com.zerobase.zerostore.repository.StoreRepository;
 import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.search.StoreSearchIndex;
 import com.zerobase.zerostore.type.ErrorCode;
 import com.zerobase.zerostore.type.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StoreService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
 
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
+    private final StoreRatingRepository storeRatingRepository;
+    private final StoreSearchIndex storeSearchIndex;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cache.store.max-size:10000}")
+    private long storeCacheMaxSize;
+
+    @Value("${cache.store.ttl-seconds:60}")
+    private long storeCacheTtlSeconds;
+
+    // 상점 ID 기준 상점 상세 응답 캐시 (응답을 만든 행의 버전 태그와 함께 저장)
+    private Cache<Long, VersionedResponse<StoreResponse>> storeCache;
+
+    @PostConstruct
+    void init() {
+        this.storeCache = Caffeine.newBuilder()
+                .maximumSize(storeCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(storeCacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, storeCache, "store");
+    }
 
     /**
      * 새로운 상점을 등록하는 메서드입니다.
@@ -44,6 +97,8 @@ public class StoreService {
             throw new CustomException(ErrorCode.INVALID_ROLE);
         }
 
+        StoreGeoIndex.validateCoordinate(storeRequest.getLatitude(), storeRequest.getLongitude());
+
         // 동일한 상호명이 이미 등록된 상점이 있는지 확인
         if (storeRepository.findByNameAndOwnerId(storeRequest.getName(), user.getId()).isPresent()) {
             throw new CustomException(ErrorCode.DUPLICATE_STORE_NAME);
@@ -54,11 +109,16 @@ public class StoreService {
                 .name(storeRequest.getName())
                 .location(storeRequest.getLocation())
                 .description(storeRequest.getDescription())
+                .slotCapacity(storeRequest.getSlotCapacity())
+                .latitude(storeRequest.getLatitude())
+                .longitude(storeRequest.getLongitude())
                 .owner(user)
                 .build();
 
-        // 상점 정보 저장
+        // 상점 정보 및 빈 평점 집계 저장
         storeRepository.save(store);
+        storeRatingRepository.insertEmpty(store.getId());
+        eventPublisher.publishEvent(StoreChangedEvent.of(store, ChangeType.REGISTERED));
     }
 
     /**
@@ -68,7 +128,7 @@ public class StoreService {
      * @param storeId 수정할 상점의 ID
      * @param owner 상점의 소유자
      * @param request 상점 수정 요청 정보
-     * @throws CustomException 상점이 존재하지 않거나, 소유자가 아닌 경우 예외를 발생시킴
+     * @throws CustomException 상점이 존재하지 않거나, 소유자가 아니거나, 상호명이 중복되는 경우 예외를 발생시킴
      */
     @Transactional
     public void updateStore(Long storeId, User owner, StoreUpdateRequest request) {
@@ -76,17 +136,47 @@ public class StoreService {
         Store store = storeRepository.findByIdAndOwnerId(storeId, owner.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
 
-        // 상점 정보 수정
-        store = Store.builder()
-                .id(store.getId()) // 기존 ID 유지
-                .name(request.getName())
-                .location(request.getLocation())
-                .description(request.getDescription())
-                .owner(store.getOwner()) // 소유자 유지
-                .build();
+        applyUpdate(store, owner, request.getName(), request.getLocation(), request.getDescription(),
+                request.getSlotCapacity(), request.getLatitude(), request.getLongitude());
+    }
 
-        // 수정된 상점 정보 저장
-        storeRepository.save(store);
+    /**
+     * 특정 상점의 정보 중 요청에 포함된 항목만 수정하는 메서드입니다.
+     * 상점의 소유자가 요청한 경우에만 상점 정보를 수정할 수 있습니다.
+     *
+     * @param storeId 수정할 상점의 ID
+     * @param owner 상점의 소유자
+     * @param request 수정할 항목만 담은 요청 정보 (값이 없는 항목은 유지)
+     * @throws CustomException 상점이 존재하지 않거나, 소유자가 아니거나, 상호명이 중복되는 경우 예외를 발생시킴
+     */
+    @Transactional
+    public void patchStore(Long storeId, User owner, StorePatchRequest request) {
+        Store store = storeRepository.findByIdAndOwnerId(storeId, owner.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+
+        applyUpdate(store, owner,
+                Optional.ofNullable(request.getName()).orElse(store.getName()),
+                Optional.ofNullable(request.getLocation()).orElse(store.getLocation()),
+                Optional.ofNullable(request.getDescription()).orElse(store.getDescription()),
+                Optional.ofNullable(request.getSlotCapacity()).orElse(store.getSlotCapacity()),
+                Optional.ofNullable(request.getLatitude()).orElse(store.getLatitude()),
+                Optional.ofNullable(request.getLongitude()).orElse(store.getLongitude()));
+    }
+
+    // 관리 상태의 상점을 직접 변경 (변경 감지로 바뀐 컬럼만 UPDATE 되며, 생성 시각 등 다른 컬럼은 유지)
+    private void applyUpdate(Store store, User owner, String name, String location, String description,
+                             Integer slotCapacity, Double latitude, Double longitude) {
+        StoreGeoIndex.validateCoordinate(latitude, longitude);
+
+        // 상호명을 바꾸는 경우 같은 소유자의 다른 상점과 중복되는지 확인
+        if (!store.getName().equals(name)
+                && storeRepository.findByNameAndOwnerId(name, owner.getId()).isPresent()) {
+            throw new CustomException(ErrorCode.DUPLICATE_STORE_NAME);
+        }
+
+        if (store.update(name, location, description, slotCapacity, latitude, longitude)) {
+            eventPublisher.publishEvent(StoreChangedEvent.of(store, ChangeType.UPDATED));
+        }
     }
 
     /**
@@ -103,33 +193,108 @@ public class StoreService {
         Store store = storeRepository.findByIdAndOwnerId(storeId, owner.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
 
-        // 상점 삭제
+        // 상점 및 평점 집계 삭제
+        storeRatingRepository.deleteById(storeId);
         storeRepository.delete(store);
+        eventPublisher.publishEvent(StoreChangedEvent.deleted(storeId));
     }
 
     /**
-     * 등록된 모든 상점의 정보를 조회하는 메서드입니다.
+     * 등록된 상점을 ID 순으로 커서 기반 조회하는 메서드입니다.
+     * 이전 페이지의 마지막 ID 이후만 조회하므로 페이지가 깊어져도 조회 비용이 일정합니다.
+     * 평점 집계는 페이지의 상점 목록에 대해 한 번의 쿼리로 함께 조회합니다.
      *
-     * @return 모든 상점 정보를 조회하여 응답
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상점 페이지
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외 발생
      */
-    public List<StoreResponse> getAllStores() {
-        return storeRepository.findAll().stream()
-                .map(StoreResponse::entityToDto)
-                .collect(Collectors.toList());
+    public CursorPageResponse<StoreResponse> getStores(String cursor, int size) {
+        Long afterId = IdCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<Store> rows = storeRepository.findPageAfter(afterId, PageRequest.of(0, pageSize + 1));
+        return CursorPageResponse.of(withRatings(rows), pageSize, store -> IdCursor.encode(store.getId()));
+    }
+
+    /**
+     * 상점명 또는 위치로 상점을 검색하는 메서드입니다.
+     * 메모리 색인에서 관련도 순 상점 ID 를 찾고, 해당 페이지의 상점만 DB 에서 조회합니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 100)
+     * @return 관련도 순 상점 목록 페이지
+     * @throws CustomException 검색어가 비어 있거나 너무 긴 경우 예외 발생
+     */
+    public PageResponse<StoreResponse> searchStores(String query, int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+
+        // 요청한 페이지까지의 상위 결과만 색인에서 가져옴
+        int limit = (int) Math.min((long) (pageNumber + 1) * pageSize, Integer.MAX_VALUE);
+        StoreSearchIndex.SearchResult hits = storeSearchIndex.search(query, limit);
+        List<Long> ranked = hits.storeIds();
+        int from = (int) Math.min((long) pageNumber * pageSize, ranked.size());
+        List<Long> pageIds = ranked.subList(from, ranked.size());
+
+        // 관련도 순서를 유지하고, 색인 반영 전에 삭제된 상점은 제외
+        Map<Long, Store> stores = storeRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        List<StoreResponse> content = withRatings(pageIds.stream()
+                .map(stores::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        return PageResponse.<StoreResponse>builder()
+                .content(content)
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(hits.total())
+                .hasNext(limit < hits.total())
+                .build();
+    }
+
+    /**
+     * 상점 수정 시각과 평점 집계 revision 만 조회하여 버전 태그를 만듭니다.
+     * 조건부 조회(ETag)에서 상점 정보를 조회하기 전에 변경 여부를 확인하는 데 사용합니다.
+     *
+     * @param storeId 조회할 상점의 ID
+     * @return 상점의 버전 태그
+     * @throws CustomException 상점이 존재하지 않으면 예외를 발생시킴
+     */
+    public String getVersionTag(Long storeId) {
+        return storeRepository.findVersionById(storeId)
+                .map(StoreVersion::toTag)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
     }
 
     /**
      * 특정 상점의 정보를 조회하는 메서드입니다.
+     * 조회 결과는 응답을 만든 상점/평점 집계 행의 버전 태그와 함께 캐시되며,
+     * 캐시된 태그가 요청 직전에 확인한 버전과 다르면 다시 조회합니다.
+     * 같은 상점에 대한 동시 캐시 미스는 한 번의 조회로 합쳐집니다.
      *
      * @param storeId 조회할 상점의 ID
+     * @param versionTag {@link #getVersionTag(Long)} 로 확인한 현재 버전 태그
      * @return 조회된 상점 정보
      * @throws CustomException 상점이 존재하지 않으면 예외를 발생시킴
      */
-    public StoreResponse getStoreById(Long storeId) {
+    public StoreResponse getStoreById(Long storeId, String versionTag) {
+        return storeCache.asMap().compute(storeId, (id, cached) ->
+                cached != null && cached.getVersionTag().equals(versionTag) ? cached : loadStore(id)).getBody();
+    }
+
+    private VersionedResponse<StoreResponse> loadStore(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
+        StoreRating rating = storeRatingRepository.findById(storeId).orElse(null);
 
-        return StoreResponse.entityToDto(store);
+        String versionTag = new StoreVersion(store.getUpdatedAt(), rating == null ? null : rating.getRevision()).toTag();
+        return new VersionedResponse<>(StoreResponse.entityToDto(store, rating), versionTag);
     }
 
     /**
@@ -144,8 +309,33 @@ public class StoreService {
             throw new CustomException(ErrorCode.INVALID_ROLE);
         }
 
-        return storeRepository.findAllByOwnerId(owner.getId()).stream()
-                .map(StoreResponse::entityToDto)
+        return withRatings(storeRepository.findAllByOwnerId(owner.getId()));
+    }
+
+    /**
+     * 상점 수정/삭제가 커밋된 후 캐시된 상점 정보를 제거합니다.
+     * 커밋 전에 제거하면 다른 요청이 이전 정보를 다시 캐시할 수 있으므로 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        storeCache.invalidate(event.getStoreId());
+    }
+
+    /**
+     * 리뷰 변경으로 평점 집계가 바뀌면 캐시된 상점 정보를 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        storeCache.invalidate(event.getStoreId());
+    }
+
+    // 상점 목록에 평점 집계를 붙여 응답으로 변환
+    private List<StoreResponse> withRatings(List<Store> stores) {
+        Map<Long, StoreRating> ratings = storeRatingRepository.findAllById(stores.stream().map(Store::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(StoreRating::getStoreId, Function.identity()));
+        return stores.stream()
+                .map(store -> StoreResponse.entityToDto(store, ratings.get(store.getId())))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
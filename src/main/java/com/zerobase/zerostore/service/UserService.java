@@ -4,14 +4,22 @@ import com.zerobase.zerostore.domain.User;
 import com.zerobase.zerostore.dto.LoginRequest;
 import com.zerobase.zerostore.dto.TokenResponse;
 import com.zerobase.zerostore.dto.UserRequest;
+import com.zerobase.zerostore.event.UserRoleChangedEvent;
 import com.zerobase.zerostore.exception.CustomException;
 import com.zerobase.zerostore.repository.UserRepository;
 import com.zerobase.zerostore.security.JwtTokenProvider;
+import com.zerobase.zerostore.security.PasswordHashingExecutor;
 import com.zerobase.zerostore.type.Role;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.zerobase.zerostore.type.ErrorCode.*;
 
@@ -20,32 +28,57 @@ import static com.zerobase.zerostore.type.ErrorCode.*;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    // 스프링 부트 기본 작업 풀 (해싱 이후의 DB 저장용, 가상 스레드 사용 여부에 따라 구현 타입이 달라지므로 이름으로 주입)
+    @Qualifier("applicationTaskExecutor")
+    private final Executor applicationTaskExecutor;
 
     /**
      * 사용자가 회원가입을 수행하는 메서드입니다.
      * 사용자가 입력한 전화번호가 이미 등록되어 있는지 확인하고,
      * 전화번호가 중복되지 않으면 새 사용자로 등록합니다.
+     * 비밀번호 암호화는 전용 해싱 스레드 풀에서 수행되고,
+     * 사용자 저장은 해싱 풀을 DB 대기로 점유하지 않도록 애플리케이션 작업 풀의 트랜잭션에서 수행됩니다.
      *
      * @param userRequest 사용자 등록 요청 정보
+     * @return 등록 완료 시 종료되는 CompletableFuture
      * @throws CustomException 이미 등록된 전화번호에 대해 예외를 발생시킴
+     * @throws com.zerobase.zerostore.exception.ServiceUnavailableException 해싱 대기열이 가득 찬 경우
      */
-    @Transactional
-    public void registerUser(UserRequest userRequest) {
+    public CompletableFuture<Void> registerUser(UserRequest userRequest) {
         // 전화번호 중복 체크
         if (userRepository.existsByPhoneNumber(userRequest.getPhoneNumber())) {
             throw new CustomException(USER_ALREADY_REGISTERED);
         }
 
-        // 사용자 객체 생성 및 저장
-        User user = User.builder()
-                .name(userRequest.getName())
-                .phoneNumber(userRequest.getPhoneNumber())
-                .password(passwordEncoder.encode(userRequest.getPassword())) // 비밀번호 암호화
-                .role(Role.USER) // 기본 역할 설정
-                .build();
-        userRepository.save(user);
+        return passwordHashingExecutor.encode(userRequest.getPassword()) // 비밀번호 암호화
+                .thenAcceptAsync(encodedPassword -> saveUser(userRequest, encodedPassword), applicationTaskExecutor);
+    }
+
+    // 해싱하는 동안 같은 전화번호로 가입되었을 수 있으므로 트랜잭션 안에서 다시 확인
+    private void saveUser(UserRequest userRequest, String encodedPassword) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (userRepository.existsByPhoneNumber(userRequest.getPhoneNumber())) {
+                    throw new CustomException(USER_ALREADY_REGISTERED);
+                }
+
+                // 사용자 객체 생성 및 저장
+                User user = User.builder()
+                        .name(userRequest.getName())
+                        .phoneNumber(userRequest.getPhoneNumber())
+                        .password(encodedPassword)
+                        .role(Role.USER) // 기본 역할 설정
+                        .build();
+                userRepository.save(user);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 전화번호로 가입한 경우 (phone_number 유니크 제약)
+            throw new CustomException(USER_ALREADY_REGISTERED);
+        }
     }
 
     /**
@@ -65,31 +98,36 @@ public class UserService {
         // 역할 변경
         user.changeRole(); // 역할을 파트너로 변경
         userRepository.save(user); // 변경된 사용자 정보 저장
+
+        // 캐시된 인증 정보가 이전 역할로 남지 않도록 무효화
+        eventPublisher.publishEvent(new UserRoleChangedEvent(user.getPhoneNumber()));
     }
 
     /**
      * 사용자가 로그인하는 메서드입니다.
      * 전화번호와 비밀번호를 통해 사용자를 인증하고,
      * 유효한 사용자라면 JWT 토큰을 생성하여 반환합니다.
+     * 비밀번호 검증은 전용 해싱 스레드 풀에서 수행됩니다.
      *
      * @param loginRequest 로그인 요청 정보 (전화번호, 비밀번호)
      * @return TokenResponse JWT 토큰을 포함한 응답
      * @throws CustomException 사용자 정보가 없거나, 비밀번호가 일치하지 않으면 예외를 발생시킴
+     * @throws com.zerobase.zerostore.exception.ServiceUnavailableException 해싱 대기열이 가득 찬 경우
      */
-    public TokenResponse login(LoginRequest loginRequest) {
+    public CompletableFuture<TokenResponse> login(LoginRequest loginRequest) {
         // 전화번호로 사용자 조회
         User user = userRepository.findByPhoneNumber(loginRequest.getPhoneNumber())
                 .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
-            throw new CustomException(INVALID_PASSWORD);
-        }
-
-        // JWT 토큰 생성 및 반환
-        return TokenResponse.builder()
-                .token(jwtTokenProvider.generateToken(user.getPhoneNumber()))
-                .build();
+        // 비밀번호 확인 후 JWT 토큰 생성 및 반환
+        return passwordHashingExecutor.matches(loginRequest.getPassword(), user.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new CustomException(INVALID_PASSWORD);
+                    }
+                    return TokenResponse.builder()
+                            .token(jwtTokenProvider.generateToken(user))
+                            .build();
+                });
     }
 }
-
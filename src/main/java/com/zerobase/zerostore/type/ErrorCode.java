@@ -19,12 +19,22 @@ public enum ErrorCode {
     RESERVATION_NOT_FOUND(400, "예약을 찾을 수 없습니다."),
     UNAUTHORIZED_ACTION(403, "권한이 없습니다."),
     DUPLICATE_RESERVATION(409, "이미 동일한 시간에 예약이 존재합니다."),
+    RESERVATION_SLOT_FULL(409, "해당 시간대의 예약이 마감되었습니다."),
     RESERVATION_STATE_CONFLICT(409,"승인된 예약은 대기 상태로 변경할 수 없습니다."),
+    RESERVATION_ALREADY_REJECTED(409, "거절된 예약의 상태는 변경할 수 없습니다."),
+    RESERVATION_ALREADY_EXPIRED(409, "만료된 예약의 상태는 변경할 수 없습니다."),
+    CONCURRENT_MODIFICATION(409, "다른 요청에 의해 먼저 변경되었습니다. 다시 시도해주세요."),
     ACCESS_DENIED(403, "정보를 수정할 권한이 없습니다."),
     INVALID_INPUT_VALUE(422, "예약한 시간 10분 전부터 사용할 수 있습니다"),
     RESERVATION_ALREADY_USED(400,"이미 사용 처리된 예약입니다."),
     RESERVATION_NOT_APPROVED(400,"승인되지 않은 예약은 사용 처리할 수 없습니다."),
     REVIEW_NOT_FOUND(404,"작성한 리뷰를 찾을 수 없습니다."),
+    INVALID_RATING(400, "평점은 1점에서 5점 사이로 입력해야 합니다."),
+    INVALID_IMPORT_HEADER(400, "CSV 첫 행에 name, location, description 컬럼이 필요합니다."),
+    INVALID_COORDINATE(400, "위도와 경도는 유효한 범위의 값을 함께 입력해야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(422, "같은 멱등 키로 다른 요청을 보낼 수 없습니다."),
+    PASSWORD_HASHING_BUSY(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    STORE_EXPORT_BUSY(503, "진행 중인 상점 목록 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
 
     RESERVATION_NOT_USED(400, "상점을 이용하지 않아 리뷰를 작성할 수 없습니다.");
 
@@ -1,16 +1,43 @@
 package com.zerobase.zerostore.type;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 예약 상태입니다.
+ * DB 에는 code 값이 저장되며, status(표시 이름)는 응답 직렬화 시에만 사용됩니다.
+ * 저장된 code 는 변경하지 말고, 새 상태는 새 code 로 추가해야 합니다.
+ */
 @Getter
 @AllArgsConstructor
 public enum ReservationStatus {
-    PENDING("대기"),
-    APPROVED("승인"),
-    REJECTED("거절"),
-    COMPLETED("사용 완료") ;
+    PENDING((byte) 1, "대기"),
+    APPROVED((byte) 2, "승인"),
+    REJECTED((byte) 3, "거절"),
+    COMPLETED((byte) 4, "사용 완료"),
+    EXPIRED((byte) 5, "만료");
 
+    private final byte code;
     private final String status;
-}
 
+    // 요청의 상수 이름("APPROVED")과 응답의 표시 이름("승인")을 모두 허용
+    @JsonCreator
+    public static ReservationStatus from(String value) {
+        for (ReservationStatus status : values()) {
+            if (status.name().equalsIgnoreCase(value) || status.status.equals(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown reservation status: " + value);
+    }
+
+    public static ReservationStatus fromCode(byte code) {
+        for (ReservationStatus value : values()) {
+            if (value.code == code) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unknown reservation status code: " + code);
+    }
+}
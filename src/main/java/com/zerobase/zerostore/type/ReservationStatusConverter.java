@@ -0,0 +1,21 @@
+package com.zerobase.zerostore.type;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 예약 상태를 1바이트 코드로 저장합니다.
+ */
+@Converter
+public class ReservationStatusConverter implements AttributeConverter<ReservationStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(ReservationStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public ReservationStatus convertToEntityAttribute(Byte code) {
+        return code == null ? null : ReservationStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,18 @@
+package com.zerobase.zerostore.type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * 응답에서 예약 상태를 표시 이름("대기", "승인" 등)으로 직렬화합니다.
+ */
+public class ReservationStatusLabelSerializer extends JsonSerializer<ReservationStatus> {
+
+    @Override
+    public void serialize(ReservationStatus value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeString(value.getStatus());
+    }
+}
@@ -0,0 +1,23 @@
+package com.zerobase.zerostore.type;
+
+import com.zerobase.zerostore.exception.CustomException;
+
+import static com.zerobase.zerostore.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 상점 순위 기준입니다.
+ */
+public enum StoreRankingType {
+    RATING,
+    RESERVATIONS;
+
+    // 요청 파라미터는 대소문자를 구분하지 않음 (rating, reservations)
+    public static StoreRankingType from(String value) {
+        for (StoreRankingType type : values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new CustomException(INVALID_REQUEST);
+    }
+}
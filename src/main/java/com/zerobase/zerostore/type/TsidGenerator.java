@@ -0,0 +1,86 @@
+package com.zerobase.zerostore.type;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * 시간순으로 증가하는 53비트 ID 발급기입니다.
+ * - [41비트 기준 시각 이후 밀리초][4비트 노드][8비트 순번] 으로 구성되어, 나중에 발급된 ID 가 항상 더 큽니다.
+ * - 자바스크립트 클라이언트가 JSON 숫자를 정밀도 손실 없이 다룰 수 있도록 2^53 미만으로 유지합니다.
+ * - 노드 번호는 시스템 속성 zerostore.id.node 또는 환경 변수 ZEROSTORE_ID_NODE (0~15) 로 반드시 지정해야 하며,
+ *   여러 노드를 띄우는 경우 노드마다 다른 값을 지정해야 합니다. 지정하지 않으면 기동 시(엔티티 매핑 초기화 시) 실패합니다.
+ *   (4비트로는 임의 값이나 호스트 정보에서 뽑은 값이 노드 간에 겹치지 않는다고 보장할 수 없으므로 자동으로 정하지 않습니다.)
+ * - 같은 밀리초에 노드당 256개까지 발급하고, 초과하면 다음 밀리초까지 기다립니다.
+ */
+public class TsidGenerator implements BeforeExecutionGenerator {
+
+    // 2024-01-01T00:00:00Z (약 69년간 사용 가능)
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long NODE = resolveNode();
+
+    private static long lastMillis = -1;
+    private static long sequence;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static synchronized long nextId() {
+        // 시계가 뒤로 가면 마지막 시각을 계속 사용
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                now = waitNextMillis(lastMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (NODE << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long waitNextMillis(long lastMillis) {
+        long now = System.currentTimeMillis();
+        while (now <= lastMillis) {
+            Thread.onSpinWait();
+            now = System.currentTimeMillis();
+        }
+        return now;
+    }
+
+    private static long resolveNode() {
+        String configured = System.getProperty("zerostore.id.node", System.getenv("ZEROSTORE_ID_NODE"));
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("zerostore.id.node (or ZEROSTORE_ID_NODE) must be set to a node number "
+                    + "between 0 and " + MAX_NODE + " that is unique per running instance");
+        }
+        long node;
+        try {
+            node = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("zerostore.id.node must be a number: " + configured, e);
+        }
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalStateException("zerostore.id.node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        return node;
+    }
+}
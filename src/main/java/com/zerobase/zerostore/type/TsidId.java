@@ -0,0 +1,18 @@
+package com.zerobase.zerostore.type;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 {@link TsidGenerator} 로 INSERT 전에 발급합니다.
+ * IDENTITY 와 달리 INSERT 결과를 기다리지 않아도 ID 를 알 수 있으므로 Hibernate 의 JDBC 배치 INSERT 가 적용됩니다.
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
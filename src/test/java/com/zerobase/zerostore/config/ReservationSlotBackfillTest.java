@@ -0,0 +1,130 @@
+package com.zerobase.zerostore.config;
+
+import com.zerobase.zerostore.domain.ReservationSlot;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.repository.ReservationSlotRepository;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.type.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태 코드가 채워지기 전의 이전 예약 행이 남아 있을 때, 예약 시간대 카운터가 거절된 예약을 세지 않는지 확인합니다.
+ * 마이그레이션과 카운터 초기화가 실제 DB 에 커밋된 행을 읽도록 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:slot-backfill;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationSlotBackfillTest {
+
+    @Autowired
+    private ReservationStatusColumnMigration statusColumnMigration;
+
+    @Autowired
+    private ReservationSlotBackfill reservationSlotBackfill;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    private final AtomicLong reservationIds = new AtomicLong(1);
+    private LocalDateTime dinnerSlot;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        dinnerSlot = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0);
+        User owner = userRepository.save(User.builder()
+                .name("사장님")
+                .phoneNumber("01000000000")
+                .password("password")
+                .role(Role.PARTNER)
+                .build());
+        store = storeRepository.save(Store.builder()
+                .name("제로 식당")
+                .location("서울시 강남구")
+                .description("테스트 상점")
+                .owner(owner)
+                .build());
+        // 컬럼 이전 전의 스키마처럼 표시 이름 컬럼을 추가
+        jdbcTemplate.execute("ALTER TABLE reservation ADD COLUMN status VARCHAR(255)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("ALTER TABLE reservation DROP COLUMN status");
+        jdbcTemplate.update("DELETE FROM reservation");
+        reservationSlotRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void backfillRunsAfterStatusColumnMigration() {
+        assertThat(beanFactory.getBeanDefinition("reservationSlotBackfill").getDependsOn())
+                .contains("reservationStatusColumnMigration");
+    }
+
+    @Test
+    void legacyRejectedReservationsDoNotCountAgainstCapacity() {
+        insertLegacyReservation("대기");
+        insertLegacyReservation("승인");
+        insertLegacyReservation("거절");
+        insertLegacyReservation("거절");
+
+        // 빈이 초기화되는 순서대로 실행
+        statusColumnMigration.migrate();
+        reservationSlotBackfill.backfill();
+
+        assertThat(reservationSlotRepository.findAll())
+                .filteredOn(slot -> slot.getStoreId().equals(store.getId()) && slot.getSlotTime().equals(dinnerSlot))
+                .extracting(ReservationSlot::getReservedCount)
+                .containsExactly(2);
+    }
+
+    // 상태 코드가 아직 채워지지 않은(0) 이전 예약 행
+    private void insertLegacyReservation(String status) {
+        jdbcTemplate.update("INSERT INTO reservation (id, user_id, store_id, reservation_time, status_code, used, version, status) "
+                        + "VALUES (?, ?, ?, ?, 0, false, 0, ?)",
+                reservationIds.getAndIncrement(), store.getOwner().getId(), store.getId(), dinnerSlot, status);
+    }
+
+    @TestConfiguration
+    @ComponentScan(basePackageClasses = ReservationSlotBackfill.class, useDefaultFilters = false,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {ReservationStatusColumnMigration.class, ReservationSlotBackfill.class}))
+    static class BackfillConfig {
+    }
+}
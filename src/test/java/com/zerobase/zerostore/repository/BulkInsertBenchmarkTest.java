@@ -0,0 +1,134 @@
+package com.zerobase.zerostore.repository;
+
+import com.zerobase.zerostore.domain.Reservation;
+import com.zerobase.zerostore.domain.ReservationSlot;
+import com.zerobase.zerostore.domain.Review;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.type.ReservationStatus;
+import com.zerobase.zerostore.type.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 저장 시 처리량과 실행된 INSERT 문 수를 IDENTITY ID 와 시간순 ID(TSID) 로 비교합니다.
+ * TSID 는 INSERT 전에 발급되므로 JDBC 배치로 묶여, 실행되는 문장 수가 행 수보다 훨씬 적어야 합니다.
+ * 기본 빌드에서는 실행되지 않으며, ./gradlew test --tests '*BenchmarkTest' -Dbenchmark=true 로 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+    private static final int ROWS = 5_000;
+    private static final int FLUSH_EVERY = 500;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void timeOrderedIdInsertsAreBatchedUnlikeIdentity() {
+        User owner = em.persist(user("사장님", "01000000000", Role.PARTNER));
+        User customer = em.persist(user("손님", "01000000001", Role.USER));
+        Store store = em.persist(Store.builder()
+                .name("제로 식당")
+                .location("서울시 강남구")
+                .description("테스트 상점")
+                .owner(owner)
+                .build());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime time = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0);
+
+        // IDENTITY: INSERT 를 실행해야 ID 를 알 수 있어 행마다 문장이 실행됨 (예약 카운터 행)
+        statistics.clear();
+        long identityStartedAt = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(ReservationSlot.builder()
+                    .storeId(store.getId())
+                    .slotTime(time.plusMinutes(30L * i))
+                    .build());
+            flushEvery(i);
+        }
+        em.flush();
+        long identityMillis = elapsedMillis(identityStartedAt);
+        long identityStatements = statistics.getPrepareStatementCount();
+
+        // TSID: INSERT 전에 ID 가 발급되어 JDBC 배치로 묶임 (예약/리뷰)
+        statistics.clear();
+        User customerRef = em.getEntityManager().getReference(User.class, customer.getId());
+        Store storeRef = em.getEntityManager().getReference(Store.class, store.getId());
+        long tsidStartedAt = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            Reservation reservation = Reservation.builder()
+                    .user(customerRef)
+                    .store(storeRef)
+                    .reservationTime(time.plusMinutes(30L * i))
+                    .status(ReservationStatus.COMPLETED)
+                    .used(true)
+                    .build();
+            em.persist(reservation);
+            em.persist(Review.builder()
+                    .user(customerRef)
+                    .store(storeRef)
+                    .reservation(reservation)
+                    .content("맛있고 친절한 가게였습니다 " + i)
+                    .rating(5)
+                    .build());
+            if (flushEvery(i)) {
+                customerRef = em.getEntityManager().getReference(User.class, customer.getId());
+                storeRef = em.getEntityManager().getReference(Store.class, store.getId());
+            }
+        }
+        em.flush();
+        long tsidMillis = elapsedMillis(tsidStartedAt);
+        long tsidStatements = statistics.getPrepareStatementCount();
+
+        String summary = String.format("IDENTITY %d rows in %dms (%.0f rows/s), %d statements / "
+                        + "TSID %d rows in %dms (%.0f rows/s), %d statements",
+                ROWS, identityMillis, ROWS * 1000.0 / identityMillis, identityStatements,
+                ROWS * 2, tsidMillis, ROWS * 2 * 1000.0 / tsidMillis, tsidStatements);
+        log.info("bulk insert - {}", summary);
+
+        assertThat(identityStatements).as(summary).isGreaterThanOrEqualTo(ROWS);
+        assertThat(tsidStatements).as(summary).isLessThan(ROWS / 10);
+    }
+
+    // 일정 행마다 flush/clear 하여 영속성 컨텍스트가 커지지 않도록 함 (flush 했으면 true)
+    private boolean flushEvery(int index) {
+        if ((index + 1) % FLUSH_EVERY != 0) {
+            return false;
+        }
+        em.flush();
+        em.clear();
+        return true;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+    }
+
+    private static User user(String name, String phoneNumber, Role role) {
+        return User.builder()
+                .name(name)
+                .phoneNumber(phoneNumber)
+                .password("password")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.zerobase.zerostore.repository;
+
+import com.zerobase.zerostore.domain.Reservation;
+import com.zerobase.zerostore.domain.Review;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.ReservationResponse;
+import com.zerobase.zerostore.dto.ReviewResponse;
+import com.zerobase.zerostore.type.ReservationStatus;
+import com.zerobase.zerostore.type.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약/리뷰 목록 조회가 건수와 관계없이 한 번의 쿼리로 처리되는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ListingProjectionQueryTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private Statistics statistics;
+    private Long storeId;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = em.persist(user("사장님", "01000000000", Role.PARTNER));
+        Store store = em.persist(Store.builder()
+                .name("제로 식당")
+                .location("서울시 강남구")
+                .description("테스트 상점")
+                .owner(owner)
+                .build());
+
+        User customer = null;
+        for (int i = 0; i < ROWS; i++) {
+            customer = em.persist(user("손님" + i, "0100000010" + i, Role.USER));
+            Reservation reservation = em.persist(Reservation.builder()
+                    .user(customer)
+                    .store(store)
+                    .reservationTime(LocalDateTime.now().plusDays(1).withHour(18).withMinute(0).withSecond(0).withNano(0))
+                    .status(ReservationStatus.COMPLETED)
+                    .used(true)
+                    .build());
+            em.persist(Review.builder()
+                    .user(customer)
+                    .store(store)
+                    .reservation(reservation)
+                    .content("맛있고 친절한 가게였습니다 " + i)
+                    .rating(5)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        storeId = store.getId();
+        customerId = customer.getId();
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void storeReservationListingIssuesSingleStatement() {
+        List<ReservationResponse> responses = reservationRepository.findPageByStoreId(
+                storeId, null, null, null, null, null, PageRequest.of(0, ROWS + 1));
+
+        assertThat(responses).hasSize(ROWS);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getStoreName()).isEqualTo("제로 식당"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userReservationListingIssuesSingleStatement() {
+        List<ReservationResponse> responses = reservationRepository.findPageByUserId(
+                customerId, null, null, null, null, null, PageRequest.of(0, ROWS + 1));
+
+        assertThat(responses).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void storeReviewListingIssuesSingleStatement() {
+        List<ReviewResponse> responses = reviewRepository.findPageByStoreId(
+                storeId, null, null, null, PageRequest.of(0, ROWS + 1));
+
+        assertThat(responses).hasSize(ROWS);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getUserName()).startsWith("손님"));
+        assertThat(responses).isSortedAccordingTo(
+                Comparator.comparing(ReviewResponse::getCreatedAt).thenComparing(ReviewResponse::getId).reversed());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void storeReviewListingFoldsStoreExistenceCheck() {
+        // 조건에 맞는 리뷰가 없으면 리뷰 필드가 비어 있는 한 행, 상점이 없으면 빈 목록
+        List<ReviewResponse> noMatches = reviewRepository.findPageByStoreId(
+                storeId, 6, null, null, PageRequest.of(0, ROWS + 1));
+        List<ReviewResponse> missingStore = reviewRepository.findPageByStoreId(
+                -1L, null, null, null, PageRequest.of(0, ROWS + 1));
+
+        assertThat(noMatches).singleElement().satisfies(row -> assertThat(row.getId()).isNull());
+        assertThat(missingStore).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void userReviewListingIssuesSingleStatement() {
+        List<ReviewResponse> responses = reviewRepository.findPageByUserId(
+                customerId, null, null, null, PageRequest.of(0, ROWS + 1));
+
+        assertThat(responses).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static User user(String name, String phoneNumber, Role role) {
+        return User.builder()
+                .name(name)
+                .phoneNumber(phoneNumber)
+                .password("password")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.zerobase.zerostore.repository;
+
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.type.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상점 수정이 관리 상태의 엔티티를 변경하는 방식으로 처리되어, 생성 시각을 유지하고 변경이 없으면 UPDATE 하지 않는지 확인합니다.
+ * 실행된 SQL 을 가로채, UPDATE 문에 바뀐 컬럼만 포함되는지도 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.zerobase.zerostore.repository.StorePartialUpdateTest$SqlCapture"
+})
+class StorePartialUpdateTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+    private Long storeId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        User owner = em.persist(User.builder()
+                .name("사장님")
+                .phoneNumber("01000000000")
+                .password("password")
+                .role(Role.PARTNER)
+                .build());
+        Store store = em.persist(Store.builder()
+                .name("제로 식당")
+                .location("서울시 강남구")
+                .description("테스트 상점")
+                .slotCapacity(10)
+                .owner(owner)
+                .build());
+        em.flush();
+        em.clear();
+
+        storeId = store.getId();
+        createdAt = store.getCreatedAt();
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void updateKeepsCreatedAtAndUntouchedColumns() {
+        Store store = em.find(Store.class, storeId);
+
+        boolean changed = store.update("제로 식당 본점", store.getLocation(), store.getDescription(),
+                store.getSlotCapacity(), 37.4979, 127.0276);
+        em.flush();
+        em.clear();
+
+        Store reloaded = em.find(Store.class, storeId);
+        List<String> updates = SqlCapture.updatesOf("store");
+        assertThat(changed).isTrue();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(updates).singleElement().satisfies(sql -> assertThat(sql)
+                .contains("name", "latitude", "longitude")
+                .doesNotContain("description", "slot_capacity", "location", "created_at"));
+        assertThat(reloaded.getName()).isEqualTo("제로 식당 본점");
+        assertThat(reloaded.getDescription()).isEqualTo("테스트 상점");
+        assertThat(reloaded.getLatitude()).isEqualTo(37.4979);
+        assertThat(reloaded.getCreatedAt()).isNotNull().isEqualTo(createdAt);
+    }
+
+    @Test
+    void unchangedValuesIssueNoUpdate() {
+        Store store = em.find(Store.class, storeId);
+
+        boolean changed = store.update(store.getName(), store.getLocation(), store.getDescription(),
+                store.getSlotCapacity(), store.getLatitude(), store.getLongitude());
+        em.flush();
+
+        assertThat(changed).isFalse();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(SqlCapture.updatesOf("store")).isEmpty();
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 그대로 기록합니다.
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+
+        static List<String> updatesOf(String table) {
+            return STATEMENTS.stream()
+                    .filter(sql -> sql.startsWith("update " + table + " "))
+                    .toList();
+        }
+    }
+}
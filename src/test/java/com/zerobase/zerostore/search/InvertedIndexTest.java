@@ -0,0 +1,83 @@
+package com.zerobase.zerostore.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void tokenizesKoreanWordsIntoOverlappingBigrams() {
+        assertThat(NGramTokenizer.tokenize("웨이팅 길어요!")).containsExactly("웨이", "이팅", "길어", "어요");
+        assertThat(NGramTokenizer.tokenize("차 OK")).containsExactly("차", "ok");
+    }
+
+    @Test
+    void indexesSingleCharactersAlongsideBigrams() {
+        assertThat(NGramTokenizer.tokenizeDocument("맛있어 차"))
+                .containsExactly("맛", "있", "어", "맛있", "있어", "차");
+    }
+
+    @Test
+    void singleCharacterQueryMatchesLongerWords() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        index.put(1L, "정말 맛있어요");
+        index.put(2L, "진짜 맛집");
+        index.put(3L, "웨이팅이 길어요");
+
+        assertThat(index.search("맛", id -> true)).extracting(InvertedIndex.Hit::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("요", id -> true)).extracting(InvertedIndex.Hit::id).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void matchesDocumentsContainingAllQueryGramsRankedByScore() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        index.put(1L, "주차가 편해요");
+        index.put(2L, "주차 공간이 넓고 주차 요원도 친절해요");
+        index.put(3L, "웨이팅이 길어요");
+
+        List<Long> hits = index.search("주차", id -> true).stream().map(InvertedIndex.Hit::id).toList();
+
+        assertThat(hits).containsExactly(2L, 1L);
+        assertThat(index.search("주차 웨이팅", id -> true)).isEmpty();
+    }
+
+    @Test
+    void replacingOrRemovingDocumentUpdatesPostings() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        index.put(1L, "웨이팅이 길어요");
+
+        index.put(1L, "주차가 편해요");
+        assertThat(index.search("웨이팅", id -> true)).isEmpty();
+        assertThat(index.search("주차", id -> true)).extracting(InvertedIndex.Hit::id).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("주차", id -> true)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void appliesFilter() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        index.put(1L, "주차 편해요");
+        index.put(2L, "주차 편해요");
+
+        assertThat(index.search("주차", id -> id == 2L)).extracting(InvertedIndex.Hit::id).containsExactly(2L);
+    }
+
+    @Test
+    void limitedSearchKeepsTopHitsAndCountsAllMatches() {
+        InvertedIndex<Long> index = new InvertedIndex<>();
+        index.put(1L, "주차 편해요");
+        index.put(2L, "주차 공간이 넓고 주차 요원도 친절해요");
+        index.put(3L, "주차 가능");
+        index.put(4L, "웨이팅이 길어요");
+
+        InvertedIndex.Result<Long> result = index.search("주차", id -> true, 2);
+
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::id).containsExactly(2L, 3L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+}
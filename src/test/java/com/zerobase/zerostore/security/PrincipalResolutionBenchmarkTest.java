@@ -0,0 +1,101 @@
+package com.zerobase.zerostore.security;
+
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.type.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증된 요청마다 수행되는 인증 주체 구성(JwtTokenProvider.getAuthentication)의 처리량을
+ * 토큰 클레임만 사용하는 방식과 사용자 테이블을 조회하는 기존 방식으로 비교합니다.
+ * 기존 방식은 인증 정보 캐시를 끈 경우(매 요청 DB 조회)와 켠 경우를 함께 측정합니다.
+ * 기본 빌드에서는 실행되지 않으며, ./gradlew test --tests '*BenchmarkTest' -Dbenchmark=true 로 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PrincipalResolutionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincipalResolutionBenchmarkTest.class);
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 100_000;
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void statelessPrincipalOutperformsDatabaseLookup() {
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .name("사용자" + i)
+                    .phoneNumber(String.format("010%08d", i))
+                    .password("password")
+                    .role(i % 10 == 0 ? Role.PARTNER : Role.USER)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        JwtTokenProvider statelessProvider = provider(true, 0);
+        List<String> tokens = users.stream()
+                .map(user -> statelessProvider.generateToken(user).substring(JwtTokenProvider.TOKEN_PREFIX.length()))
+                .toList();
+
+        double statelessRps = requestsPerSecond(statelessProvider, tokens);
+        double databaseRps = requestsPerSecond(provider(false, 0), tokens);
+        double cachedDatabaseRps = requestsPerSecond(provider(false, USERS), tokens);
+
+        String summary = String.format("principal resolution - stateless %.0f req/s, db lookup %.0f req/s (%.1fx), "
+                        + "db lookup with principal cache %.0f req/s",
+                statelessRps, databaseRps, statelessRps / databaseRps, cachedDatabaseRps);
+        log.info(summary);
+
+        assertThat(statelessRps).as(summary).isGreaterThan(databaseRps);
+    }
+
+    private double requestsPerSecond(JwtTokenProvider provider, List<String> tokens) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            provider.getAuthentication(tokens.get(i % tokens.size()));
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            Authentication authentication = provider.getAuthentication(tokens.get(i % tokens.size()));
+            assertThat(authentication.getPrincipal()).isInstanceOf(UserDetailsImpl.class);
+        }
+        return MEASURED_REQUESTS / ((System.nanoTime() - startedAt) / 1_000_000_000.0);
+    }
+
+    // principalCacheSize 가 0 이면 기존 방식은 매 요청 사용자 테이블을 조회
+    private JwtTokenProvider provider(boolean stateless, long principalCacheSize) {
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userDetailsService, "cacheMaxSize", principalCacheSize);
+        ReflectionTestUtils.setField(userDetailsService, "cacheTtlSeconds", 300L);
+        userDetailsService.init();
+
+        JwtTokenProvider provider = new JwtTokenProvider(userDetailsService);
+        ReflectionTestUtils.setField(provider, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(provider, "statelessPrincipal", stateless);
+        ReflectionTestUtils.setField(provider, "cacheMaxSize", 10_000L);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,147 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.domain.ReservationSlot;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.ReservationSlotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 예약이 실제 DB 카운터 행의 조건부 UPDATE 를 거쳐도 정원을 넘지 않는지 확인합니다.
+ * 예약마다 별도 트랜잭션에서 커밋하며, INSERT IGNORE 를 쓰기 위해 H2 를 MySQL 모드로 띄웁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:slot-capacity;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "reservation.slot.default-capacity=10"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReservationSlotCapacityManager.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationSlotCapacityManagerTest {
+
+    private static final int CAPACITY = 20;
+    private static final int REQUESTS = 200;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ReservationSlotCapacityManager capacityManager;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private LocalDateTime dinnerSlot;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        dinnerSlot = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationSlotRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedSlotCapacity() throws Exception {
+        Store store = Store.builder().id(1L).slotCapacity(CAPACITY).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> capacityManager.reserve(store, dinnerSlot));
+                    booked.incrementAndGet();
+                } catch (CustomException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(booked.get()).isEqualTo(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(REQUESTS - CAPACITY);
+        assertThat(reservedCount(store.getId())).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void rolledBackReservationReturnsSeat() {
+        Store store = Store.builder().id(2L).slotCapacity(1).build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            capacityManager.reserve(store, dinnerSlot);
+            status.setRollbackOnly();
+        });
+
+        // 카운터 행은 별도 트랜잭션에서 만들어지므로 남고, 증가분만 롤백됨
+        assertThat(reservedCount(store.getId())).isZero();
+        transactionTemplate.executeWithoutResult(status -> capacityManager.reserve(store, dinnerSlot));
+        assertThat(reservedCount(store.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void releasedSeatCanBeReservedAgain() {
+        Store store = Store.builder().id(3L).slotCapacity(1).build();
+        transactionTemplate.executeWithoutResult(status -> capacityManager.reserve(store, dinnerSlot));
+
+        transactionTemplate.executeWithoutResult(status -> capacityManager.release(store.getId(), dinnerSlot));
+        transactionTemplate.executeWithoutResult(status -> capacityManager.reserve(store, dinnerSlot));
+
+        assertThat(reservedCount(store.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void storeWithoutCapacityUsesDefault() {
+        Store store = Store.builder().id(4L).build();
+
+        assertThat(capacityManager.capacityOf(store)).isEqualTo(10);
+    }
+
+    private int reservedCount(Long storeId) {
+        return reservationSlotRepository.findAll().stream()
+                .filter(slot -> slot.getStoreId().equals(storeId) && slot.getSlotTime().equals(dinnerSlot))
+                .mapToInt(ReservationSlot::getReservedCount)
+                .findFirst()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.domain.Reservation;
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.ReservationStatusResult;
+import com.zerobase.zerostore.exception.CustomException;
+import com.zerobase.zerostore.repository.ReservationRepository;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.type.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.zerobase.zerostore.type.ErrorCode.RESERVATION_ALREADY_EXPIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 만료된 예약을 파트너가 단건/일괄 상태 변경으로 다시 승인하거나 대기로 되돌릴 수 없는지 확인합니다.
+ */
+class ReservationStatusTransitionTest {
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final ReservationSlotCapacityManager capacityManager = mock(ReservationSlotCapacityManager.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private ReservationService reservationService;
+    private User owner;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        OptimisticRetryExecutor retryExecutor = new OptimisticRetryExecutor(
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retryExecutor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryExecutor, "backoffMillis", 0L);
+        reservationService = new ReservationService(reservationRepository, mock(StoreRepository.class),
+                mock(UserRepository.class), capacityManager, eventPublisher, retryExecutor);
+
+        owner = User.builder().id(1L).name("사장님").build();
+        store = Store.builder().id(10L).name("제로 식당").owner(owner).build();
+    }
+
+    @Test
+    void expiredReservationCannotBeApproved() {
+        Reservation reservation = expired(100L);
+        when(reservationRepository.findById(100L)).thenReturn(Optional.of(reservation));
+
+        assertThatThrownBy(() -> reservationService.updateReservationStatus(100L, ReservationStatus.APPROVED, owner))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorMessage").isEqualTo(RESERVATION_ALREADY_EXPIRED.getDescription());
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        verifyNoInteractions(capacityManager, eventPublisher);
+    }
+
+    @Test
+    void bulkUpdateReportsExpiredReservationsAndChangesTheRest() {
+        Reservation expired = expired(100L);
+        Reservation pending = reservation(101L, ReservationStatus.PENDING);
+        when(reservationRepository.findAllWithStoreByIdIn(anyCollection())).thenReturn(List.of(expired, pending));
+
+        List<ReservationStatusResult> results = reservationService.updateReservationStatuses(
+                List.of(100L, 101L), ReservationStatus.APPROVED, owner);
+
+        assertThat(results).extracting(ReservationStatusResult::getReservationId, ReservationStatusResult::isSuccess,
+                        ReservationStatusResult::getMessage)
+                .containsExactly(
+                        tuple(100L, false, RESERVATION_ALREADY_EXPIRED.getDescription()),
+                        tuple(101L, true, null));
+        assertThat(expired.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(pending.getStatus()).isEqualTo(ReservationStatus.APPROVED);
+    }
+
+    private Reservation expired(Long id) {
+        return reservation(id, ReservationStatus.EXPIRED);
+    }
+
+    private Reservation reservation(Long id, ReservationStatus status) {
+        return Reservation.builder()
+                .id(id)
+                .user(User.builder().id(2L).build())
+                .store(store)
+                .reservationTime(LocalDateTime.now().minusHours(1).withMinute(0).withSecond(0).withNano(0))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.dto.NearbyStoreResponse;
+import com.zerobase.zerostore.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class StoreGeoIndexTest {
+
+    private final StoreGeoIndex index = new StoreGeoIndex(null, null);
+
+    @Test
+    void returnsStoresWithinRadiusOrderedByDistance() {
+        index.put(store(1L, 37.4979, 127.0276));  // 강남역
+        index.put(store(2L, 37.5045, 127.0490));  // 선릉역 (약 2km)
+        index.put(store(3L, 37.4985, 127.0280));  // 강남역 바로 옆
+        index.put(store(4L, 35.1580, 129.1604));  // 해운대
+
+        List<NearbyStoreResponse> nearby = index.findNearby(37.4979, 127.0276, 3000, 10);
+
+        assertThat(nearby).extracting(NearbyStoreResponse::getStoreId).containsExactly(1L, 3L, 2L);
+        assertThat(nearby.get(2).getDistanceMeters()).isBetween(1800L, 2200L);
+        assertThat(index.findNearby(37.4979, 127.0276, 3000, 2))
+                .extracting(NearbyStoreResponse::getStoreId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void limitKeepsNearestStoresAndBreaksTiesByStoreId() {
+        for (long id = 1; id <= 50; id++) {
+            index.put(store(id, 37.4979 + (51 - id) * 0.0001, 127.0276));
+        }
+        index.put(store(100L, 37.4979 + 0.0001, 127.0276));  // 50번과 같은 거리
+
+        assertThat(index.findNearby(37.4979, 127.0276, 3000, 3))
+                .extracting(NearbyStoreResponse::getStoreId).containsExactly(50L, 100L, 49L);
+    }
+
+    @Test
+    void findsStoresAcrossTheAntimeridian() {
+        index.put(store(1L, 0.0, 179.999));
+
+        assertThat(index.findNearby(0.0, -179.999, 1000, 10))
+                .extracting(NearbyStoreResponse::getStoreId).containsExactly(1L);
+    }
+
+    @Test
+    void movingOrRemovingCoordinatesUpdatesGrid() {
+        index.put(store(1L, 37.4979, 127.0276));
+
+        index.put(store(1L, 35.1580, 129.1604));
+        assertThat(index.findNearby(37.4979, 127.0276, 1000, 10)).isEmpty();
+        assertThat(index.findNearby(35.1580, 129.1604, 1000, 10)).hasSize(1);
+
+        index.put(store(1L, null, null));
+        assertThat(index.findNearby(35.1580, 129.1604, 1000, 10)).isEmpty();
+    }
+
+    @Test
+    void rejectsPartialOrOutOfRangeCoordinates() {
+        StoreGeoIndex.validateCoordinate(null, null);
+        assertThatThrownBy(() -> StoreGeoIndex.validateCoordinate(37.5, null)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> index.findNearby(91, 0, 1000, 10)).isInstanceOf(CustomException.class);
+        assertThat(StoreGeoIndex.distanceMeters(0, 0, 0, 1)).isCloseTo(111_195, within(10.0));
+    }
+
+    private static Store store(Long id, Double latitude, Double longitude) {
+        return Store.builder()
+                .id(id)
+                .name("상점" + id)
+                .location("위치" + id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.zerobase.zerostore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zerostore.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreImportReaderTest {
+
+    @Test
+    void readsCsvRowsWithQuotedFieldsAndOptionalColumns() {
+        String csv = "\uFEFFName,location,description,slotCapacity,latitude,longitude\r\n"
+                + "제로 식당 강남점,\"서울시 강남구, 1층\",\"\"\"원조\"\" 국밥\n두 줄 설명\",10,37.4979,127.0276\r\n"
+                + "\n"
+                + "제로 식당 선릉점,서울시 강남구,설명,,,\n"
+                + "제로 식당 역삼점,서울시 강남구,설명,열명,,";
+
+        List<StoreImportReader.Row> rows = readAll(StoreImportReader.csv(new StringReader(csv)));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().getLocation()).isEqualTo("서울시 강남구, 1층");
+        assertThat(rows.get(0).request().getDescription()).isEqualTo("\"원조\" 국밥\n두 줄 설명");
+        assertThat(rows.get(0).request().getSlotCapacity()).isEqualTo(10);
+        assertThat(rows.get(0).request().getLongitude()).isEqualTo(127.0276);
+        assertThat(rows.get(1).request().getSlotCapacity()).isNull();
+        assertThat(rows.get(1).number()).isEqualTo(2);
+        assertThat(rows.get(2).request()).isNull();
+        assertThat(rows.get(2).name()).isEqualTo("제로 식당 역삼점");
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredHeader() {
+        StoreImportReader reader = StoreImportReader.csv(new StringReader("name,location\n제로 식당,서울"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void readsNdjsonLinesAndReportsMalformedOnes() {
+        String ndjson = "{\"name\":\"제로 식당\",\"location\":\"서울\",\"description\":\"설명\",\"latitude\":37.5,\"longitude\":127.0}\n"
+                + "\n"
+                + "{\"name\":\n";
+
+        List<StoreImportReader.Row> rows = readAll(StoreImportReader.ndjson(new StringReader(ndjson), new ObjectMapper()));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).name()).isEqualTo("제로 식당");
+        assertThat(rows.get(0).request().getLatitude()).isEqualTo(37.5);
+        assertThat(rows.get(1).error()).isNotNull();
+    }
+
+    private static List<StoreImportReader.Row> readAll(StoreImportReader reader) {
+        List<StoreImportReader.Row> rows = new ArrayList<>();
+        StoreImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
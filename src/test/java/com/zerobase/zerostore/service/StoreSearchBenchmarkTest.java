@@ -0,0 +1,135 @@
+package com.zerobase.zerostore.service;
+
+import com.zerobase.zerostore.domain.Store;
+import com.zerobase.zerostore.domain.StoreRating;
+import com.zerobase.zerostore.domain.User;
+import com.zerobase.zerostore.dto.PageResponse;
+import com.zerobase.zerostore.dto.StoreResponse;
+import com.zerobase.zerostore.event.StoreChangedEvent;
+import com.zerobase.zerostore.event.StoreChangedEvent.ChangeType;
+import com.zerobase.zerostore.repository.StoreRatingRepository;
+import com.zerobase.zerostore.repository.StoreRepository;
+import com.zerobase.zerostore.repository.UserRepository;
+import com.zerobase.zerostore.search.StoreSearchIndex;
+import com.zerobase.zerostore.type.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상점 10만 건에서 상점 검색 서비스 경로(색인 검색 + 페이지 상점 조회 + 평점 집계 조회)의 지연 시간을 측정합니다.
+ * 기본 빌드에서는 실행되지 않으며, ./gradlew test --tests '*BenchmarkTest' -Dbenchmark=true 로 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest
+class StoreSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreSearchBenchmarkTest.class);
+
+    private static final int STORE_COUNT = 100_000;
+    private static final int FLUSH_EVERY = 1_000;
+    private static final int WARMUP_QUERIES = 5_000;
+    private static final int MEASURED_QUERIES = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String[] DISTRICTS = {"강남구", "서초구", "마포구", "송파구", "종로구", "용산구", "성동구", "해운대구", "수성구", "유성구"};
+    private static final String[] CITIES = {"서울", "부산", "대구", "대전", "인천", "광주"};
+    private static final String[] PREFIXES = {"행복한", "맛있는", "원조", "할매", "시골", "바다", "달빛", "푸른", "황금", "소문난"};
+    private static final String[] KINDS = {"국밥", "분식", "카페", "치킨", "피자", "초밥", "냉면", "족발", "베이커리", "갈비"};
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreRatingRepository storeRatingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void searchStoresP99StaysUnderFiveMillisAtOneHundredThousandStores() {
+        // 기동 시 재구성은 MySQL 스트리밍 설정을 사용하므로, 색인은 등록 이벤트로 채움
+        StoreSearchIndex searchIndex = new StoreSearchIndex(storeRepository, transactionManager);
+        StoreService storeService = new StoreService(userRepository, storeRepository, storeRatingRepository,
+                searchIndex, new SimpleMeterRegistry(), eventPublisher);
+        storeService.init();
+
+        Random random = new Random(42);
+        User owner = em.persist(User.builder()
+                .name("사장님")
+                .phoneNumber("01000000000")
+                .password("password")
+                .role(Role.PARTNER)
+                .build());
+        for (int i = 1; i <= STORE_COUNT; i++) {
+            Store store = em.persist(Store.builder()
+                    .name(pick(random, PREFIXES) + " " + pick(random, KINDS) + " " + i % 1000 + "호점")
+                    .location(pick(random, CITIES) + " " + pick(random, DISTRICTS) + " " + random.nextInt(300) + "번길")
+                    .description("벤치마크 상점")
+                    .owner(owner)
+                    .build());
+            em.persist(StoreRating.builder()
+                    .storeId(store.getId())
+                    .reviewCount(1)
+                    .ratingSum(1 + random.nextInt(5))
+                    .build());
+            searchIndex.onStoreChanged(StoreChangedEvent.of(store, ChangeType.REGISTERED));
+            if (i % FLUSH_EVERY == 0) {
+                em.flush();
+                em.clear();
+                owner = em.getEntityManager().getReference(User.class, owner.getId());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        String[] queries = {"국밥", "할매 국밥", "강남", "서울 카페", "해운대", "원조 족발", "달빛", "베이커리", "황금 갈비", "유성구"};
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            storeService.searchStores(queries[i % queries.length], 0, PAGE_SIZE);
+            em.clear();
+        }
+
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            String query = queries[random.nextInt(queries.length)];
+            long startedAt = System.nanoTime();
+            PageResponse<StoreResponse> page = storeService.searchStores(query, 0, PAGE_SIZE);
+            latencies[i] = System.nanoTime() - startedAt;
+            assertThat(page.getContent()).hasSize(PAGE_SIZE);
+            // 매 요청을 새 영속성 컨텍스트에서 조회한 것처럼 측정
+            em.clear();
+        }
+        Arrays.sort(latencies);
+        double p50Millis = latencies[MEASURED_QUERIES / 2] / 1_000_000.0;
+        double p99Millis = latencies[(int) (MEASURED_QUERIES * 0.99)] / 1_000_000.0;
+        String summary = String.format("store search service - p50 %.3fms, p99 %.3fms", p50Millis, p99Millis);
+        log.info(summary);
+
+        assertThat(p99Millis).as(summary).isLessThan(5.0);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
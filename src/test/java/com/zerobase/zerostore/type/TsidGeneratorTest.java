@@ -0,0 +1,57 @@
+package com.zerobase.zerostore.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TsidGeneratorTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    void idsIncreaseAndStayWithinJavascriptSafeRange() {
+        long previous = TsidGenerator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long id = TsidGenerator.nextId();
+            assertThat(id).isGreaterThan(previous).isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+            previous = id;
+        }
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveSameId() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = TsidGenerator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> unique = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                for (long id : future.get()) {
+                    unique.add(id);
+                }
+            }
+            assertThat(unique).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}